@@ -0,0 +1,97 @@
+package org.example.expert.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.example.expert.config.JwtSecurityFilter;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매 요청마다 실행되는 인증 경로 벤치마크
+ * - 토큰 발급 (로그인 / 회원가입)
+ * - 토큰 검증 (모든 인증 요청)
+ * - JwtSecurityFilter 전체 (헤더 파싱 -> 검증 -> AuthUser / SecurityContext 생성)
+ * - AuthUser -> User 변환 (일정 / 댓글 / 담당자 저장)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthenticationBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtUtil jwtUtil;
+    private JwtSecurityFilter jwtSecurityFilter;
+    private String bearerToken;
+    private String token;
+    private AuthUser authUser;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaximumSize", 10_000L);
+        jwtUtil.init();
+        jwtSecurityFilter = new JwtSecurityFilter(jwtUtil, new SimpleMeterRegistry());
+
+        bearerToken = jwtUtil.createToken(1L, "user@test.com", UserRole.ROLE_USER, "nickname");
+        token = jwtUtil.substringToken(bearerToken);
+        authUser = new AuthUser(1L, "user@test.com", UserRole.ROLE_USER, "nickname");
+
+        request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", bearerToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@test.com", UserRole.ROLE_USER, "nickname");
+    }
+
+    // 같은 토큰 반복 요청 : 검증된 claims 캐시에서 조회
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    // 처음 보는 토큰 : 서명 검증 + JSON 파싱
+    @Benchmark
+    public Claims extractClaimsUncached() {
+        jwtUtil.getClaimsCache().invalidateAll();
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public Authentication jwtSecurityFilter() throws Exception {
+        jwtSecurityFilter.doFilter(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public User userFromAuthUser() {
+        return User.fromAuthUser(authUser);
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 400 에러 경로 벤치마크 : 예외 생성 -> throw -> catch -> 에러 응답 생성
+ * - legacy : 스택 트레이스를 채우는 예외 + 요청마다 HashMap 본문 생성 (기존 방식)
+ * - stackless : 스택 트레이스 없는 예외 + GlobalExceptionHandler 의 캐시된 본문
+ * 스택 트레이스 비용은 호출 깊이에 비례하므로, 실제 요청(필터 체인 + 프록시 + 서비스)과 비슷하도록 깊이를 바꿔가며 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorPathBenchmark {
+
+    private static final String MESSAGE = "Todo not found";
+
+    @Param({"10", "150"})
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> legacy() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (InvalidRequestException ex) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("status", HttpStatus.BAD_REQUEST.name());
+            errorResponse.put("code", HttpStatus.BAD_REQUEST.value());
+            errorResponse.put("message", ex.getMessage());
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> stackless() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (InvalidRequestException ex) {
+            return handler.invalidRequestExceptionException(ex);
+        }
+    }
+
+    // depth 만큼 호출 스택을 쌓은 뒤 예외 발생
+    private static void throwAt(int depth, boolean stackless) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackless);
+            return;
+        }
+        throw stackless ? InvalidRequestException.withoutStackTrace(MESSAGE) : new InvalidRequestException(MESSAGE);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.expert.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 목록 응답 직렬화 벤치마크 (페이지 크기별)
+ * - pageImpl : 기존 응답 (Page 를 그대로 ObjectMapper 로 직렬화)
+ * - pageResponse : PageResponse 를 미리 만들어 둔 ObjectWriter 로 직렬화 (ListResponseHttpMessageConverter 와 같은 방식)
+ * 응답 크기(bytes)는 gc.alloc.rate.norm 과 함께 setUp 에서 한번 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageResponseWriter;
+    private Page<TodoResponse> page;
+    private PageResponse<TodoResponse> pageResponse;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        pageResponseWriter = objectMapper.writerFor(new TypeReference<PageResponse<TodoResponse>>() {});
+
+        UserResponse user = new UserResponse(1L, "user@test.com", "nickname");
+        LocalDateTime now = LocalDateTime.now();
+        List<TodoResponse> contents = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            contents.add(new TodoResponse((long) i, "title" + i, "contents" + i, "Sunny", user, 0, 1, now, now));
+        }
+        page = new PageImpl<>(contents, PageRequest.of(0, pageSize), 1000);
+        pageResponse = PageResponse.from(page);
+
+        System.out.printf("%nresponse size (pageSize=%d) : pageImpl=%d bytes, pageResponse=%d bytes%n",
+                pageSize, pageImpl().length, pageResponse().length);
+    }
+
+    @Benchmark
+    public byte[] pageImpl() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageResponse() throws JsonProcessingException {
+        return pageResponseWriter.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 목록 조회의 엔티티 -> 응답 DTO 변환 벤치마크 (페이지 크기별)
+ * DB 조회는 포함하지 않고, 이미 로딩된 엔티티 페이지를 TodoResponse 페이지로 바꾸는 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private Page<Todo> todos;
+
+    @Setup
+    public void setUp() {
+        User user = new User("user@test.com", "password", UserRole.ROLE_USER, "nickname");
+        List<Todo> contents = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            contents.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        todos = new PageImpl<>(contents, PageRequest.of(0, pageSize), 1000);
+    }
+
+    @Benchmark
+    public Page<TodoResponse> mapPage() {
+        return todos.map(TodoResponse::from);
+    }
+}
@@ -3,30 +3,83 @@ package org.example.expert.aop;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
+import org.example.expert.domain.audit.service.AuditEvent;
+import org.example.expert.domain.audit.service.AuditLogWriter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 관리자 컨트롤러(*AdminController) 호출을 audit_log 에 기록
+ * 호출한 관리자는 SecurityContext 의 인증 정보(AuthUser)에서 가져오며, 실패한 호출(권한 없음 포함)도 함께 기록합니다.
+ * 기록은 AuditLogWriter 대기열에 넣기만 하므로 요청 처리 시간에 DB 저장 시간이 더해지지 않습니다.
+ */
 @Slf4j
 @Aspect
 @Component
+@Order(0)   // @Secured 권한 검사보다 바깥에서 실행되어야 거부된 호출도 기록됨
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
     private final HttpServletRequest request;
+    private final AuditLogWriter auditLogWriter;
+
+    // 기록 조회 API(AuditLogAdminController)도 포함 : 누가 언제 기록을 열람했는지도 감사 대상 (조회 1번에 기록 1건만 늘어남)
+    @Around("execution(* org.example.expert.domain..controller.*AdminController.*(..))")
+    public Object logAdminAccess(ProceedingJoinPoint joinPoint) throws Throwable {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        long startedAt = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            record(joinPoint, occurredAt, startedAt, null);
+            return result;
+        } catch (Throwable e) {
+            record(joinPoint, occurredAt, startedAt, e);
+            throw e;
+        }
+    }
 
-    // AOP 실행 pointcut 변경 & 실행될 어드바이스 실행 시점 변경과 메서드명 수정
-    @Before("execution(* org.example.expert.domain.user.controller.UserAdminController.changeUserRole(..))")
-    public void logBeforeChangeUserRole(JoinPoint joinPoint) {
-        String userId = String.valueOf(request.getAttribute("userId"));
-        String requestUrl = request.getRequestURI();
-        LocalDateTime requestTime = LocalDateTime.now();
+    private void record(ProceedingJoinPoint joinPoint, LocalDateTime occurredAt, long startedAt, Throwable error) {
+        try {
+            Long actorId = null;
+            String actorEmail = null;
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+                actorId = authUser.getId();
+                actorEmail = authUser.getEmail();
+            }
+
+            String action = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+            String errorMessage = error != null ? truncate(error.getClass().getSimpleName() + ": " + error.getMessage()) : null;
+
+            auditLogWriter.enqueue(new AuditEvent(
+                    actorId,
+                    actorEmail,
+                    action,
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    error == null,
+                    errorMessage,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt),
+                    occurredAt
+            ));
+        } catch (RuntimeException e) {
+            // 기록 실패가 관리자 요청 결과에 영향을 주지 않도록 함
+            log.error("관리자 API 호출 기록에 실패했습니다.", e);
+        }
+    }
 
-        log.info("Admin Access Log - User ID: {}, Request Time: {}, Request URL: {}, Method: {}",
-                userId, requestTime, requestUrl, joinPoint.getSignature().getName());
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
     }
 }
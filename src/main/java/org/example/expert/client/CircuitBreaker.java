@@ -0,0 +1,57 @@
+package org.example.expert.client;
+
+import java.time.Duration;
+
+/**
+ * 연속 실패 횟수 기반의 간단한 서킷 브레이커
+ * CLOSED : 정상 호출, 연속 실패가 failureThreshold에 도달하면 OPEN
+ * OPEN : openDuration 동안 호출하지 않고 바로 실패 처리
+ * HALF_OPEN : openDuration이 지나면 1건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+    }
+
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMillis) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;   // OPEN 이거나, HALF_OPEN 상태에서 이미 시험 호출이 진행중인 경우
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            consecutiveFailures = 0;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -1,8 +1,14 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -12,19 +18,170 @@ import org.springframework.web.util.UriComponentsBuilder;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 날씨 데이터는 하루 단위로만 바뀌고, 외부 API가 1년치 데이터를 한번에 내려주기 때문에
+ * 전체 데이터를 날짜(MM-dd) 기준 Map으로 메모리에 올려두고 조회합니다.
+ * - 최초 1회만 동기로 불러오고(애플리케이션 기동 직후 미리 불러옴), 이후 getTodayWeather()는 네트워크 호출 없이 Map 조회만 합니다.
+ * - 갱신 주기가 지나면 기존 데이터를 그대로 응답하면서 백그라운드에서 새로 불러옵니다. (stale-while-revalidate)
+ *
+ * 외부 API 장애가 일정 생성까지 번지지 않도록 아래 장치를 둡니다.
+ * - connect / read timeout
+ * - bulkhead : 동시에 외부 API를 호출하는 스레드 수 제한, 초과하면 기다리지 않고 바로 fallback
+ * - circuit breaker : 연속으로 실패하면 일정 시간 동안 호출 자체를 하지 않음
+ * - fallback : 마지막으로 불러온 데이터를 계속 사용하고, 그마저 없으면 UNKNOWN_WEATHER를 반환
+ *
+ * 외부 API 호출 자체는 RestTemplate 의 http.client.requests 로 측정되고, 호출하지 않고 끝난 경우(bulkhead 초과, circuit open)까지 포함한
+ * 결과별 시간은 weather.fetch 로 측정합니다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    public static final String UNKNOWN_WEATHER = "Unknown";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final WeatherProperties properties;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private volatile Map<String, String> weatherByDate;     // MM-dd -> 날씨
+    private volatile long nextRefreshAt;                    // 다음 갱신 시각 (epoch millis)
+
+    public WeatherClient(RestTemplateBuilder builder, WeatherProperties properties, MeterRegistry meterRegistry) {
+        this.restTemplate = builder
+                .setConnectTimeout(properties.getApi().getConnectTimeout())
+                .setReadTimeout(properties.getApi().getReadTimeout())
+                .build();
+        this.weatherApiUri = buildWeatherApiUri(properties.getApi().getUrl());
+        this.properties = properties;
+        this.bulkhead = new Semaphore(properties.getApi().getMaxConcurrentCalls());
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getCircuitBreaker().getFailureThreshold(),
+                properties.getCircuitBreaker().getOpenDuration()
+        );
+        this.meterRegistry = meterRegistry;
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync();
     }
 
     public String getTodayWeather() {
+        Map<String, String> current = weatherByDate;
+
+        if (current == null) {
+            // 아직 한번도 불러오지 못한 경우에만 요청 스레드에서 동기로 불러옴 (timeout 으로 대기 시간 제한)
+            current = loadNow();
+        } else if (System.currentTimeMillis() >= nextRefreshAt) {
+            refreshAsync();
+        }
+
+        String weather = current.get(getCurrentDate());
+        return weather != null ? weather : UNKNOWN_WEATHER;
+    }
+
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private Map<String, String> loadNow() {
+        try {
+            update(fetchWeatherGuarded());
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터를 불러오지 못해 {}으로 대체합니다. cause: {}", UNKNOWN_WEATHER, e.getMessage());
+        }
+        Map<String, String> current = weatherByDate;
+        return current != null ? current : Collections.emptyMap();
+    }
+
+    // 이미 갱신 중이면 중복으로 요청하지 않음
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    update(fetchWeatherGuarded());
+                } catch (RuntimeException e) {
+                    nextRefreshAt = System.currentTimeMillis() + properties.getCache().getRetryInterval().toMillis();
+                    log.warn("날씨 데이터 갱신에 실패했습니다. 기존 데이터를 계속 사용합니다. cause: {}", e.getMessage());
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void update(Map<String, String> loaded) {
+        weatherByDate = loaded;
+        nextRefreshAt = System.currentTimeMillis() + properties.getCache().getRefreshInterval().toMillis();
+    }
+
+    private Map<String, String> fetchWeatherGuarded() {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        if (!bulkhead.tryAcquire()) {
+            recordFetch("rejected", startedAt);
+            throw new ServerException("날씨 API 동시 호출 한도를 초과했습니다.");
+        }
+
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                outcome = "circuit_open";
+                throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+            }
+
+            try {
+                Map<String, String> loaded = fetchWeather();
+                circuitBreaker.onSuccess();
+                outcome = "success";
+                return loaded;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                throw e;
+            }
+        } finally {
+            bulkhead.release();
+            recordFetch(outcome, startedAt);
+        }
+    }
+
+    private void recordFetch(String outcome, long startedAt) {
+        Timer.builder("weather.fetch")
+                .description("날씨 데이터 조회 시간 (bulkhead / circuit breaker 포함)")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Map<String, String> fetchWeather() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
@@ -35,28 +192,27 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> loaded = new HashMap<>(weatherArray.length * 2);
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+            loaded.put(weatherDto.getDate(), weatherDto.getWeather());
         }
+        return Collections.unmodifiableMap(loaded);
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
     }
 
-    private URI buildWeatherApiUri() {
+    private URI buildWeatherApiUri(String weatherApiUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(weatherApiUrl)
                 .encode()
                 .build()
                 .toUri();
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now().format(DATE_FORMATTER);
     }
 }
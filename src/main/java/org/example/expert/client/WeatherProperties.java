@@ -0,0 +1,43 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 날씨 API 호출 설정 (weather.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather")
+public class WeatherProperties {
+
+    private final Api api = new Api();
+    private final Cache cache = new Cache();
+    private final CircuitBreakerSettings circuitBreaker = new CircuitBreakerSettings();    // 같은 패키지의 CircuitBreaker 와 이름이 겹치지 않도록 Settings 로 구분
+
+    @Getter
+    @Setter
+    public static class Api {
+        private String url = "https://f-api.github.io/f-api/weather.json";
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration readTimeout = Duration.ofSeconds(2);
+        private int maxConcurrentCalls = 2;     // 동시에 외부 API를 호출할 수 있는 최대 개수 (bulkhead)
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private Duration refreshInterval = Duration.ofHours(6);
+        private Duration retryInterval = Duration.ofMinutes(1);    // 갱신 실패 시 재시도 간격
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerSettings {
+        private int failureThreshold = 3;       // 연속 실패 횟수가 이 값에 도달하면 circuit open
+        private Duration openDuration = Duration.ofSeconds(30);    // open 상태 유지 시간, 이후 1건만 시험 호출(half-open)
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 시간을 보고 동시 처리 한도를 스스로 조절하는 limiter (TCP Vegas / Netflix concurrency-limits 의 gradient 방식)
+ * - 대기 없이 처리될 때의 응답 시간(최소 응답 시간) 대비 최근 응답 시간이 늘어나면, 그 비율(gradient)만큼 한도를 줄입니다.
+ * - 응답 시간이 허용 범위(rttTolerance) 안이면 한도에 sqrt(한도) 만큼의 여유를 더해 조금씩 늘립니다.
+ * - 한도를 넘는 요청은 기다리게 하지 않고 바로 거절합니다. (tryAcquire == false)
+ *
+ * 최소 응답 시간은 minRttWindow 개의 표본마다 다시 측정하므로, 실제 처리 시간이 바뀌면 기준도 따라 바뀝니다.
+ * (평균을 기준으로 삼으면 과부하가 이어지는 동안 기준이 같이 올라가 한도가 계속 늘어남)
+ * 최소 응답 시간을 기준으로 하므로 응답 시간이 비슷한 요청(같은 경로)끼리 하나의 limiter 를 사용해야 합니다. (ConcurrencyLimiterRegistry)
+ * 한도 확인 / 진입은 CAS 로 처리하고, 한도 계산만 synchronized 로 처리합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int shortWindow;
+    private final int minRttWindow;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // 아래 값은 onSample(synchronized) 에서만 변경
+    private double estimatedLimit;
+    private double shortRtt;
+    private long previousMinRtt = Long.MAX_VALUE;
+    private long currentMinRtt = Long.MAX_VALUE;
+    private int samplesInWindow;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitProperties.Limit limit, ConcurrencyLimitProperties properties) {
+        this.name = name;
+        this.minLimit = limit.getMinLimit();
+        this.maxLimit = limit.getMaxLimit();
+        this.rttTolerance = properties.getRttTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.shortWindow = properties.getShortWindow();
+        this.minRttWindow = properties.getMinRttWindow();
+        this.estimatedLimit = limit.getInitialLimit();
+        this.limit = limit.getInitialLimit();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리가 끝난 요청의 응답 시간을 반영하고 자리를 반납
+     */
+    public void release(long rttNanos) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtRelease);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtRelease) {
+        shortRtt = shortRtt == 0 ? rttNanos : ewma(shortRtt, rttNanos, shortWindow);
+
+        currentMinRtt = Math.min(currentMinRtt, rttNanos);
+        if (++samplesInWindow >= minRttWindow) {
+            previousMinRtt = currentMinRtt;
+            currentMinRtt = Long.MAX_VALUE;
+            samplesInWindow = 0;
+        }
+        long minRtt = Math.min(previousMinRtt, currentMinRtt);
+
+        // 한도의 절반도 쓰지 않고 있을 때는 한도를 바꿀 근거가 없음
+        if (inFlightAtRelease < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * minRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private static double ewma(double average, double sample, int window) {
+        double alpha = 2.0 / (window + 1);
+        return average + alpha * (sample - average);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 경로별 동시 처리 limiter (ConcurrencyLimitFilter)
+ * limiter 는 컨트롤러에 매핑된 경로 패턴마다 하나씩 만들고, 전체 한도는 DB 커넥션 풀 크기를 기준으로 정합니다.
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    private static final Set<RequestMethod> ALL_METHODS =
+            EnumSet.of(RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.PATCH, RequestMethod.DELETE);
+
+    @Bean
+    public ConcurrencyLimiterRegistry concurrencyLimiterRegistry(
+            ConcurrencyLimitProperties properties,
+            MeterRegistry meterRegistry,
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+    ) {
+        int globalLimit = properties.getGlobalLimit() > 0
+                ? properties.getGlobalLimit()
+                : connectionPoolSize * properties.getGlobalLimitPerConnection();
+        return new ConcurrencyLimiterRegistry(properties, meterRegistry, routePatterns(handlerMapping), globalLimit);
+    }
+
+    // "메서드 경로 패턴" 목록 (메서드를 지정하지 않은 매핑은 모든 메서드로 등록)
+    private static Set<String> routePatterns(RequestMappingHandlerMapping handlerMapping) {
+        Set<String> routePatterns = new LinkedHashSet<>();
+        for (RequestMappingInfo info : handlerMapping.getHandlerMethods().keySet()) {
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (RequestMethod method : methods.isEmpty() ? ALL_METHODS : methods) {
+                for (String pattern : info.getPatternValues()) {
+                    routePatterns.add(method.name() + " " + pattern);
+                }
+            }
+        }
+        return routePatterns;
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 과부하 시 요청을 빠르게 거절하는 필터 (SecurityConfig 에서 JwtSecurityFilter 앞에 등록)
+ * 처리할 수 있는 것보다 많은 요청을 받으면 모든 요청이 DB 커넥션을 기다리다 함께 느려지므로,
+ * 응답 시간으로 계산한 동시 처리 한도를 넘는 요청은 토큰 검증 전에 바로 503 으로 응답합니다.
+ * 경로마다 limiter 를 따로 사용해(ConcurrencyLimiterRegistry), 한 API 에 요청이 몰리거나 응답 시간이 다른 API 가 섞여도 서로의 한도에 영향을 주지 않게 하고,
+ * 모든 경로의 합계는 커넥션 풀 크기 기준의 전체 한도(GlobalConcurrencyLimiter)로 제한합니다. (전체 한도를 먼저 확인)
+ *
+ * 빈(@Component)으로 등록하지 않습니다. (서블릿 컨테이너와 시큐리티 체인 양쪽에 등록되는 것을 방지)
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_BODY = "{\"status\":\"" + HttpStatus.SERVICE_UNAVAILABLE.name() + "\","
+            + "\"code\":" + HttpStatus.SERVICE_UNAVAILABLE.value() + ","
+            + "\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}";
+
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiterRegistry limiterRegistry, boolean enabled) {
+        this.limiterRegistry = limiterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // 상태 확인 / 지표 수집 요청은 과부하 상황에서도 응답해야 함
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain chain
+    ) throws ServletException, IOException {
+        ConcurrencyLimiterRegistry.Route route = limiterRegistry.route(request.getMethod(), request.getRequestURI());
+        if (!limiterRegistry.tryAcquireGlobal(route)) {
+            reject(response);
+            return;
+        }
+
+        try {
+            AdaptiveConcurrencyLimiter limiter = route.limiter();
+            if (!limiter.tryAcquire()) {
+                route.rejected().increment();
+                reject(response);
+                return;
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                limiter.release(System.nanoTime() - startedAt);
+            }
+        } finally {
+            limiterRegistry.releaseGlobal();
+        }
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(REJECTED_BODY);
+    }
+}
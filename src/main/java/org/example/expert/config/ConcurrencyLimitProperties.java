@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동시 처리 요청 수 제한 설정 (app.concurrency-limit.*)
+ * 경로별로 따로 제한하며, 조회(read)와 변경(write) 경로는 각각의 한도 설정을 사용합니다.
+ * 모든 경로의 합계는 globalLimit(0 이면 DB 커넥션 풀 크기 x globalLimitPerConnection)으로 제한합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Limit read = new Limit(50, 10, 500);
+    private Limit write = new Limit(20, 5, 200);
+    private double rttTolerance = 1.5;      // 대기 없는 응답 시간 대비 이 배수까지의 지연은 과부하로 보지 않음
+    private double smoothing = 0.2;         // 새로 계산한 한도를 반영하는 비율 (클수록 빠르게 변함)
+    private int shortWindow = 10;           // 최근 응답 시간 이동 평균의 표본 수
+    private int minRttWindow = 1000;        // 대기 없는 응답 시간(최소 응답 시간)을 다시 측정하는 표본 수
+    private int globalLimit = 0;            // 전체 동시 처리 한도 (0 이면 커넥션 풀 크기로 계산)
+    private int globalLimitPerConnection = 3;   // 커넥션 하나당 처리 중 요청 수 (커넥션을 기다리는 요청이 응답 시간 몇 배 이상 쌓이지 않도록)
+    private double writeReserveRatio = 0.2; // 전체 한도 중 변경 요청만 사용할 수 있는 비율
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로별 동시 처리 limiter 모음 (ConcurrencyLimitFilter)
+ * limiter 는 최소 응답 시간을 기준으로 한도를 계산하므로, 응답 시간이 크게 다른 API(단건 조회 / 목록 조회 / 내보내기 등)가 섞이면
+ * 빠른 API 의 응답 시간이 기준이 되어 느린 API 의 응답이 모두 과부하로 보이고 한도가 최소값까지 내려갑니다.
+ * 그래서 "메서드 + 컨트롤러에 매핑된 경로 패턴(/todos/{todoId} 등)" 마다 limiter 를 따로 두고, 조회 / 변경 여부에 따라 한도 설정(read / write)을 사용합니다.
+ * limiter 는 기동 시점에 등록된 경로 패턴으로만 만들기 때문에, 매핑되지 않은 경로 요청(스캐너 등)은 개수를 늘리지 못하고 조회 / 변경별 공용 limiter 를 사용합니다.
+ * 모든 경로의 합계는 GlobalConcurrencyLimiter 로 한번 더 제한합니다.
+ */
+public class ConcurrencyLimiterRegistry {
+
+    private static final String OTHER_ROUTE = "other";
+    private static final String GLOBAL_ROUTE = "global";
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<PatternRoute>> routesByMethod = new HashMap<>();
+    private final Route readFallback;
+    private final Route writeFallback;
+    private final GlobalConcurrencyLimiter global;
+    private final Counter globalReadRejected;
+    private final Counter globalWriteRejected;
+
+    /**
+     * @param routePatterns "메서드 경로 패턴" 목록 (예 : "GET /todos/{todoId}")
+     * @param globalLimit   전체 동시 처리 요청 수 상한
+     */
+    public ConcurrencyLimiterRegistry(
+            ConcurrencyLimitProperties properties,
+            MeterRegistry meterRegistry,
+            Collection<String> routePatterns,
+            int globalLimit
+    ) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.readFallback = create(true, OTHER_ROUTE);
+        this.writeFallback = create(false, OTHER_ROUTE);
+
+        for (String routePattern : new LinkedHashSet<>(routePatterns)) {
+            String[] methodAndPattern = routePattern.split(" ", 2);
+            String method = methodAndPattern[0];
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(methodAndPattern[1]);
+            routesByMethod.computeIfAbsent(method, m -> new ArrayList<>())
+                    .add(new PatternRoute(pattern, create(isRead(method), routePattern)));
+        }
+        // /todos/export 처럼 고정된 경로가 /todos/{todoId} 보다 먼저 매칭되도록 구체적인 패턴부터 확인
+        routesByMethod.values().forEach(routes -> routes.sort(Comparator.comparing(PatternRoute::pattern, PathPattern.SPECIFICITY_COMPARATOR)));
+
+        int writeReserve = (int) Math.ceil(globalLimit * properties.getWriteReserveRatio());
+        this.global = new GlobalConcurrencyLimiter(globalLimit, writeReserve);
+        Gauge.builder("http.server.concurrency.limit", global, GlobalConcurrencyLimiter::getLimit)
+                .description("현재 동시 처리 한도")
+                .tag("class", "all")
+                .tag("route", GLOBAL_ROUTE)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", global, GlobalConcurrencyLimiter::getInFlight)
+                .description("처리 중인 요청 수")
+                .tag("class", "all")
+                .tag("route", GLOBAL_ROUTE)
+                .register(meterRegistry);
+        this.globalReadRejected = rejectedCounter("read", GLOBAL_ROUTE);
+        this.globalWriteRejected = rejectedCounter("write", GLOBAL_ROUTE);
+    }
+
+    public Route route(String method, String requestUri) {
+        List<PatternRoute> routes = routesByMethod.get(method);
+        if (routes != null) {
+            PathContainer path = PathContainer.parsePath(requestUri);
+            for (PatternRoute route : routes) {
+                if (route.pattern().matches(path)) {
+                    return route.route();
+                }
+            }
+        }
+        return isRead(method) ? readFallback : writeFallback;
+    }
+
+    /**
+     * 전체 한도 안에서 자리를 확보 (조회 요청은 변경 요청용으로 남겨 둔 자리를 사용하지 못함)
+     */
+    public boolean tryAcquireGlobal(Route route) {
+        if (global.tryAcquire(route.read())) {
+            return true;
+        }
+        (route.read() ? globalReadRejected : globalWriteRejected).increment();
+        return false;
+    }
+
+    public void releaseGlobal() {
+        global.release();
+    }
+
+    public GlobalConcurrencyLimiter getGlobal() {
+        return global;
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private Route create(boolean read, String routeName) {
+        String limitClass = read ? "read" : "write";
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                routeName,
+                read ? properties.getRead() : properties.getWrite(),
+                properties
+        );
+
+        Gauge.builder("http.server.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 처리 한도")
+                .tag("class", limitClass)
+                .tag("route", routeName)
+                .register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("처리 중인 요청 수")
+                .tag("class", limitClass)
+                .tag("route", routeName)
+                .register(meterRegistry);
+
+        return new Route(limiter, rejectedCounter(limitClass, routeName), read);
+    }
+
+    private Counter rejectedCounter(String limitClass, String routeName) {
+        return Counter.builder("http.server.requests.shed")
+                .description("동시 처리 한도 초과로 거절된 요청 수")
+                .tag("class", limitClass)
+                .tag("route", routeName)
+                .register(meterRegistry);
+    }
+
+    public record Route(AdaptiveConcurrencyLimiter limiter, Counter rejected, boolean read) {
+    }
+
+    private record PatternRoute(PathPattern pattern, Route route) {
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.routing.enabled=true 일 때만 적용)
+ * 설정하지 않으면 spring.datasource.* 로 만들어지는 기본 DataSource 하나를 그대로 사용합니다.
+ *
+ * 여기서 만드는 커넥션 풀은 빈이 아니라 자동으로 지표가 수집되지 않으므로, 풀마다 직접 hikaricp.* 지표(pool 태그 : primary, replica-N)를 등록합니다.
+ * 같은 이유로 spring.datasource.hikari.* 설정(maximum-pool-size, connection-timeout 등)도 자동으로 적용되지 않으므로 직접 바인딩합니다.
+ * replica 는 spring.datasource.hikari.* 를 기본값으로 쓰고, app.datasource.routing.replicas[n].hikari.* 로 replica 마다 덮어쓸 수 있습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "app.datasource.routing.replicas[%d].hikari";
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            DataSourceRoutingProperties routingProperties,
+            MeterRegistry meterRegistry,
+            Environment environment
+    ) {
+        Binder binder = Binder.get(environment);
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        List<DataSource> replicas = new ArrayList<>();
+        List<DataSourceRoutingProperties.Replica> replicaProperties = routingProperties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .driverClassName(replica.getDriverClassName())
+                    .build();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+            binder.bind(REPLICA_HIKARI_PREFIX.formatted(i), Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+            replicas.add(dataSource);
+        }
+
+        return new ReplicationRoutingDataSource(
+                primary,
+                replicas,
+                routingProperties.getHealthCheckInterval(),
+                routingProperties.getValidationTimeout(),
+                routingProperties.getLagQuery(),
+                routingProperties.getMaxLag()
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+}
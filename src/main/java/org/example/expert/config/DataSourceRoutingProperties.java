@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (app.datasource.routing.*)
+ * primary 접속 정보는 기존 spring.datasource.* 를 그대로 사용합니다.
+ * 커넥션 풀 설정은 primary / replica 모두 spring.datasource.hikari.* 를 사용하고, replica 는 replicas[n].hikari.* 로 덮어쓸 수 있습니다. (DataSourceRoutingConfig)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private Duration healthCheckInterval = Duration.ofSeconds(5);   // 0 이하이면 주기적인 점검을 하지 않음
+    private Duration validationTimeout = Duration.ofSeconds(1);     // replica 하나를 점검하는 데 기다리는 최대 시간 (넘기면 읽기 대상에서 제외)
+    private String lagQuery;                                        // 복제 지연(초)을 숫자 하나로 반환하는 쿼리, 없으면 지연 점검 생략
+    private Duration maxLag = Duration.ofSeconds(5);                // 복제 지연이 이 값을 넘으면 해당 replica 로 읽기를 보내지 않음
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 동시 처리 요청 수 상한 (ConcurrencyLimitFilter)
+ * 경로별 limiter 는 각자 한도를 늘려 가므로 합계가 하나뿐인 DB 커넥션 풀이 처리할 수 있는 양을 넘을 수 있습니다.
+ * 그래서 모든 경로를 합친 처리 중 요청 수를 커넥션 풀 크기 기준의 고정 한도로 한번 더 제한합니다.
+ * 한도의 일부(writeReserve)는 변경 요청만 사용할 수 있어서, 조회 요청이 몰려 한도를 채워도 변경 요청은 계속 처리됩니다.
+ */
+public class GlobalConcurrencyLimiter {
+
+    private final int limit;
+    private final int readLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public GlobalConcurrencyLimiter(int limit, int writeReserve) {
+        this.limit = limit;
+        this.readLimit = Math.max(1, limit - writeReserve);
+    }
+
+    public boolean tryAcquire(boolean read) {
+        int max = read ? readLimit : limit;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getReadLimit() {
+        return readLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
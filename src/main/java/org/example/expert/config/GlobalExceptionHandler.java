@@ -3,17 +3,37 @@ package org.example.expert.config;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 에러 응답 본문 캐시 (상태 코드 -> 메시지 -> 본문)
+     * 에러 메시지는 대부분 고정된 문자열이라, 같은 (상태, 메시지) 의 본문은 한번만 만들고 변경할 수 없는 Map 으로 재사용합니다.
+     * 메시지에 요청 값이 들어가는 경우를 대비해 상태 코드별로 MAX_CACHED_MESSAGES 개까지만 캐시하고, 그 이후에는 매번 새로 만듭니다.
+     */
+    private static final int MAX_CACHED_MESSAGES = 256;
+
+    private final Map<HttpStatus, Map<String, Map<String, Object>>> errorBodies = new EnumMap<>(HttpStatus.class);
+
+    public GlobalExceptionHandler() {
+        for (HttpStatus status : new HttpStatus[]{
+                HttpStatus.BAD_REQUEST, HttpStatus.UNAUTHORIZED, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.SERVICE_UNAVAILABLE}) {
+            errorBodies.put(status, new ConcurrentHashMap<>());
+        }
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
     public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -32,13 +52,38 @@ public class GlobalExceptionHandler {
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
     public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
+        return new ResponseEntity<>(getErrorBody(status, message), status);
+    }
+
+    private Map<String, Object> getErrorBody(HttpStatus status, String message) {
+        Map<String, Map<String, Object>> bodies = errorBodies.get(status);
+        if (bodies == null || message == null) {
+            return createErrorBody(status, message);
+        }
+
+        Map<String, Object> body = bodies.get(message);
+        if (body != null) {
+            return body;
+        }
+        if (bodies.size() >= MAX_CACHED_MESSAGES) {
+            return createErrorBody(status, message);
+        }
+        return bodies.computeIfAbsent(message, m -> createErrorBody(status, m));
+    }
+
+    private static Map<String, Object> createErrorBody(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>(4);
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
 
-        return new ResponseEntity<>(errorResponse, status);
+        return Collections.unmodifiableMap(errorResponse);
     }
 }
-
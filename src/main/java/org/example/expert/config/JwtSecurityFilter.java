@@ -4,6 +4,8 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
@@ -26,6 +29,7 @@ import java.io.IOException;
 public class JwtSecurityFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -37,6 +41,8 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String jwt = jwtUtil.substringToken(authorizationHeader);
+            long startedAt = System.nanoTime();
+            String result = "success";
             try {
                 Claims claims = jwtUtil.extractClaims(jwt);
                 Long userId = Long.valueOf(claims.getSubject());
@@ -52,19 +58,33 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 }
             } catch (SecurityException | MalformedJwtException e) {
+                result = "invalid";
                 log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
                 httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
             } catch (ExpiredJwtException e) {
+                result = "expired";
                 log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
                 httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
             } catch (UnsupportedJwtException e) {
+                result = "unsupported";
                 log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
             } catch (Exception e) {
+                result = "error";
                 log.error("Internal server error", e);
                 httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            } finally {
+                verificationTimer(result).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
             }
         }
         chain.doFilter(httpRequest, httpResponse);
     }
+
+    // 토큰 검증(claims 캐시 조회 포함) + 인증 정보 생성 시간
+    private Timer verificationTimer(String result) {
+        return Timer.builder("auth.jwt.verification")
+                .description("JWT 검증 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,9 +16,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
@@ -23,15 +31,46 @@ public class JwtUtil {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
     private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    /**
+     * JwtParser 는 생성 후 변경되지 않는(thread-safe) 객체이므로 요청마다 만들지 않고 하나를 재사용합니다.
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * 검증을 마친 토큰의 claims 캐시 (key : 토큰의 SHA-256 digest)
+     * 같은 토큰으로 반복해서 들어오는 요청은 서명 검증과 JSON 파싱을 건너뜁니다.
+     * 각 항목은 토큰의 만료 시각(exp)에 함께 제거되므로 만료된 토큰이 캐시를 통해 통과되는 일은 없습니다.
+     * 캐시에 원본 토큰은 저장하지 않으며, 반환되는 claims 는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 합니다.
+     */
+    private Cache<String, Claims> claimsCache;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .recordStats()
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole, String nickname) {
@@ -57,10 +96,50 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String cacheKey = digest(token);
+        Claims cached = claimsCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 검증에 실패한 토큰은 예외가 발생하므로 캐시에 저장되지 않음
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(cacheKey, claims);
+        return claims;
+    }
+
+    public Cache<String, Claims> getClaimsCache() {
+        return claimsCache;
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    /**
+     * 캐시 항목의 유효 시간 = 토큰 만료 시각(exp)까지 남은 시간 (exp 가 없으면 토큰 기본 유효 시간)
+     */
+    static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return TimeUnit.MILLISECONDS.toNanos(TOKEN_TIME);
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
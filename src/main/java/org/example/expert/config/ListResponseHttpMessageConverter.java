@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목록 응답(PageResponse, SliceResponse) 전용 JSON 변환기 (WebConfig 에서 기본 Jackson 변환기보다 앞에 등록)
+ * 핸들러의 반환 타입(PageResponse<TodoResponse> 등)별로 ObjectWriter 를 한번만 만들어 두고 재사용합니다.
+ * 기본 변환기는 요청마다 ObjectMapper 에서 writer 를 새로 만들고 직렬화 대상 타입을 다시 확인하므로, 자주 호출되는 목록 조회에서 그 비용을 줄입니다.
+ * 직렬화 설정은 애플리케이션의 ObjectMapper 를 그대로 사용하므로 응답 형식은 기본 변환기와 같습니다.
+ */
+public class ListResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ListResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return PageResponse.class.isAssignableFrom(clazz) || SliceResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;   // 응답 전용
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage) throws IOException {
+        Type responseType = type != null ? type : object.getClass();
+        ObjectWriter writer = writers.computeIfAbsent(responseType, t -> objectMapper.writerFor(objectMapper.constructType(t)));
+
+        // 응답 스트림은 컨테이너가 닫으므로 Jackson 이 닫지 않도록 감싸서 전달
+        writer.writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+    }
+
+    @Override
+    protected Object readInternal(@NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Unsupported", inputMessage);
+    }
+
+    @Override
+    public Object read(@NonNull Type type, Class<?> contextClass, @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Unsupported", inputMessage);
+    }
+}
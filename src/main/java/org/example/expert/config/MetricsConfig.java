@@ -0,0 +1,57 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.common.concurrent.SingleFlight;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.util.Map;
+
+/**
+ * 지표 수집 설정 (/actuator/prometheus, 관리 포트 management.server.port 로만 노출)
+ * 노출할 endpoint, percentile histogram, uri 태그 상한 등 기본값은 metrics.properties 에 두었고, application.yml 에 값이 있으면 그 값을 우선 사용합니다.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    // JWT claims 캐시 hit / miss / eviction (cache.* 지표, cache=jwt.claims)
+    @Bean
+    public MeterBinder jwtClaimsCacheMetrics(JwtUtil jwtUtil) {
+        return new CaffeineCacheMetrics<>(jwtUtil.getClaimsCache(), "jwt.claims", Tags.empty());
+    }
+
+    // 일정 단건 응답 캐시 hit / miss / eviction (cache.* 지표, cache=todo.response)
+    @Bean
+    public MeterBinder todoResponseCacheMetrics(TodoResponseCache todoResponseCache) {
+        return todoResponseCache.cacheMetrics("todo.response");
+    }
+
+    /**
+     * 요청 병합(single-flight) 지표 : 빈 이름을 name 태그로 사용 (SingleFlightConfig)
+     * executions 대비 collapsed 가 클수록 같은 조회가 동시에 많이 들어와 DB 조회를 아낀 것입니다.
+     */
+    @Bean
+    public MeterBinder singleFlightMetrics(Map<String, SingleFlight<?, ?>> singleFlights) {
+        return registry -> singleFlights.forEach((name, singleFlight) -> {
+            FunctionCounter.builder("singleflight.executions", singleFlight, SingleFlight::getExecutionCount)
+                    .description("loader 를 실제로 실행한 횟수")
+                    .tag("name", name)
+                    .register(registry);
+            FunctionCounter.builder("singleflight.collapsed", singleFlight, SingleFlight::getCollapsedCount)
+                    .description("진행 중인 실행에 합쳐진 요청 수")
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("singleflight.in.flight", singleFlight, SingleFlight::getInFlightCount)
+                    .description("실행 중인 key 수")
+                    .tag("name", name)
+                    .register(registry);
+        });
+    }
+}
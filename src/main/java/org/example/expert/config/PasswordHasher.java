@@ -0,0 +1,206 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기
+ * BCrypt 는 의도적으로 느린 CPU 작업이라, 요청 스레드에서 바로 실행하면 로그인이 몰릴 때 모든 요청 스레드가 해시 계산에 묶여
+ * 일정 조회 같은 가벼운 요청까지 처리하지 못하게 됩니다.
+ * 해시 계산은 크기가 정해진 스레드 풀에서만 실행하고, 대기열이 가득 차면 기다리지 않고 바로 503으로 거절합니다.
+ * 관리자 대량 등록(encodeAll)은 로그인 / 회원가입이 그 뒤에 밀리지 않도록 별도의 스레드 풀(bulkWorkers)에서 계산합니다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Timer hashTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                threadFactory("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.bulkExecutor = new ThreadPoolExecutor(
+                properties.getBulkWorkers(),
+                properties.getBulkWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getBulkWorkers() * 4),
+                threadFactory("password-hasher-bulk-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hashTimer = Timer.builder("password.hash.duration")
+                .description("비밀번호 해시 / 비교 계산 시간")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("비밀번호 해시 작업이 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 초과 / 시간 초과로 거절된 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("계산 중인 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 여러 비밀번호를 bulkWorkers 개의 구간으로 나누어 병렬로 해시 (결과는 입력과 같은 순서)
+     * 전체가 bulkTimeout 안에 끝나지 않으면 남은 작업을 취소하고 503 예외가 발생합니다.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int size = rawPasswords.size();
+        if (size == 0) {
+            return List.of();
+        }
+
+        int sliceSize = (size + properties.getBulkWorkers() - 1) / properties.getBulkWorkers();
+        String[] encoded = new String[size];
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int from = 0; from < size; from += sliceSize) {
+                int start = from;
+                int end = Math.min(from + sliceSize, size);
+                futures.add(bulkExecutor.submit(() -> {
+                    for (int i = start; i < end && !Thread.currentThread().isInterrupted(); i++) {   // 취소되면 남은 해시는 계산하지 않음
+                        long startedAt = System.nanoTime();
+                        encoded[i] = passwordEncoder.encode(rawPasswords.get(i));
+                        hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            rejectedCounter.increment();
+            throw ServiceUnavailableException.withoutStackTrace(BUSY_MESSAGE);
+        }
+
+        // 전체 제한 시간(bulkTimeout)은 한번만 정하고 각 구간은 남은 시간만큼만 기다림 (구간마다 새로 기다리면 전체 대기 시간이 구간 수만큼 늘어남)
+        // 시간을 넘기면 아직 끝나지 않은 구간을 모두 취소해서 대량 등록용 스레드를 바로 돌려받음
+        long deadline = System.nanoTime() + properties.getBulkTimeout().toNanos();
+        try {
+            for (Future<?> future : futures) {
+                await(future, Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+            }
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return Arrays.asList(encoded);
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정(strength)과 다르면 true
+     * BCrypt 해시 형식 : $2a$10$... (10 = cost)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != properties.getStrength();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw ServiceUnavailableException.withoutStackTrace(BUSY_MESSAGE);
+        }
+
+        return await(future, properties.getTimeout());
+    }
+
+    private <T> T await(Future<T> future, Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw ServiceUnavailableException.withoutStackTrace(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private static ThreadFactory threadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        bulkExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 설정 (app.password-hashing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    private int strength = 10;                                              // BCrypt cost (2^strength 번 반복), 변경 시 다음 로그인 때 새 cost 로 다시 해시
+    private int workers = Runtime.getRuntime().availableProcessors();       // 동시에 해시를 계산하는 스레드 수
+    private int queueCapacity = 100;                                        // 대기 가능한 해시 작업 수, 초과하면 즉시 503
+    private Duration timeout = Duration.ofSeconds(5);                       // 대기 + 계산 최대 시간, 초과하면 503
+    private int bulkWorkers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);  // 대량 등록용 스레드 수 (로그인용 스레드와 분리)
+    private Duration bulkTimeout = Duration.ofSeconds(30);                  // 대량 해시(encodeAll) 한번의 전체 최대 시간, 초과하면 남은 작업을 취소하고 503
+}
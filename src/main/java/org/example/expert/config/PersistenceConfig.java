@@ -1,9 +1,102 @@
 package org.example.expert.config;
 
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final String JCACHE_PROVIDER = "org.ehcache.jsr107.EhcacheCachingProvider";
+    private static final String JCACHE_CONFIG = "ehcache.xml";
+
+    /**
+     * JDBC batch 설정 (application.yml 의 spring.jpa.properties 에 값이 있으면 그 값을 우선 사용)
+     * order_inserts / order_updates 는 같은 테이블의 INSERT / UPDATE를 모아서 하나의 batch로 보내기 위해 필요합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    /**
+     * 2차 캐시 설정 (JCache + ehcache, 별도 캐시 서버 없이 애플리케이션 메모리 사용)
+     * @Cacheable 이 붙은 엔티티(User)와 User 의 natural id(email) 만 캐시하며, region 별 최대 개수와 만료 시간은 ehcache.xml 에서 관리합니다.
+     * Todo 는 댓글 수 / 담당자 수 bulk UPDATE 가 잦아 region 전체가 계속 비워지므로 2차 캐시 대신 TodoResponseCache 를 사용합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.putIfAbsent("hibernate.javax.cache.provider", JCACHE_PROVIDER);
+            properties.putIfAbsent("hibernate.javax.cache.uri", JCACHE_CONFIG);
+        };
+    }
+
+    /**
+     * Hibernate 통계 수집 (hibernate-micrometer 로 hibernate.* 지표 노출 : 쿼리 수, 2차 캐시 hit / miss, 세션 / 트랜잭션 수 등)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    /**
+     * 요청별 SQL 수 / 실행 시간 수집 (SqlStatementMetricsFilter)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementMetricsCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, SqlStatementInspector.class.getName());
+            properties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementTimingListener.class.getName());
+        };
+    }
+
+    /**
+     * 기본 TransactionTemplate
+     * Boot 는 TransactionTemplate 빈이 하나도 없을 때만 기본 템플릿을 만들어 주므로, 읽기 전용 템플릿과 함께 직접 등록합니다.
+     */
+    @Bean
+    @Primary
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 읽기 전용 TransactionTemplate (@Qualifier("readOnlyTransactionTemplate") 로 주입)
+     * 비밀번호 해시처럼 오래 걸리는 작업을 트랜잭션 밖에서 처리하면서 조회만 짧은 트랜잭션으로 실행할 때 사용합니다.
+     */
+    @Bean
+    public TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    /**
+     * primary 에서 읽는 읽기 전용 TransactionTemplate (@Qualifier("primaryReadTransactionTemplate") 로 주입)
+     * replica 를 사용할 때(ReplicationRoutingDataSource) 복제 지연 때문에 방금 쓴 데이터가 보이지 않으면 안 되는 조회에 사용합니다.
+     * (캐시 채우기, 가입 직후 로그인 등) replica 를 사용하지 않으면 readOnlyTransactionTemplate 과 같습니다.
+     */
+    @Bean
+    public TransactionTemplate primaryReadTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(ReplicationRoutingDataSource.PRIMARY_READ_TRANSACTION_NAME);
+        return transactionTemplate;
+    }
 }
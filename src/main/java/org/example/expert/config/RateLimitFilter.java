@@ -0,0 +1,111 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 필터 (SecurityConfig 에서 JwtSecurityFilter 다음에 등록)
+ * 인증 정보가 채워진 뒤에 실행되므로 로그인한 유저는 유저 id 기준으로, 그 외(로그인 요청 등)는 IP 기준으로 제한합니다.
+ * 제한을 넘은 요청은 429 와 Retry-After(초) 헤더로 응답합니다.
+ * IP 는 getRemoteAddr() 를 사용합니다. 로드밸런서 뒤에서는 Tomcat RemoteIpValve(web.properties 의 server.forward-headers-strategy)가
+ * 신뢰하는 프록시에서 온 요청에 한해 X-Forwarded-For 의 클라이언트 IP 로 바꿔 주므로, 프록시 주소를 바꾸면 server.tomcat.remoteip.internal-proxies 도 맞춰야 합니다.
+ *
+ * 서블릿 컨테이너에 따로 등록되면 인증 전에 실행되어 IP 기준으로만 제한되므로 빈(@Component)으로 등록하지 않습니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String THROTTLED_BODY = "{\"status\":\"" + HttpStatus.TOO_MANY_REQUESTS.name() + "\","
+            + "\"code\":" + HttpStatus.TOO_MANY_REQUESTS.value() + ","
+            + "\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}";
+    private static final String DEFAULT_ROUTE = "default";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain chain
+    ) throws ServletException, IOException {
+        RateLimitProperties.Route route = findRoute(request);
+        String routeName = route != null ? route.getName() : DEFAULT_ROUTE;
+        RateLimitProperties.Limit limit = route != null ? route : properties.getDefaultLimit();
+        RateLimitProperties.KeyType keyType = route != null ? route.getKey() : RateLimitProperties.KeyType.USER;
+
+        long waitNanos = rateLimiter.tryAcquire(routeName + ":" + clientKey(request, keyType), limit);
+        if (waitNanos > 0) {
+            throttled(routeName).increment();
+            reject(response, waitNanos);
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        String path = request.getServletPath() + (request.getPathInfo() != null ? request.getPathInfo() : "");
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if ((route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.getPath(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+                return "user:" + authUser.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private Counter throttled(String routeName) {
+        return Counter.builder("http.server.requests.throttled")
+                .description("요청 수 제한으로 거절된 요청 수")
+                .tag("route", routeName)
+                .register(meterRegistry);
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(THROTTLED_BODY);
+    }
+}
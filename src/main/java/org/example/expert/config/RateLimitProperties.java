@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 수 제한 설정 (app.rate-limit.*)
+ * routes 중 가장 먼저 일치하는 경로의 제한을 사용하고, 일치하는 경로가 없으면 default-limit 을 사용합니다.
+ * 제한은 capacity(한번에 몰아서 보낼 수 있는 요청 수)와 refill-per-second(초당 회복되는 요청 수)로 정합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Duration idleTimeout = Duration.ofMinutes(10);     // 이 시간 동안 요청이 없는 사용자의 bucket 은 제거
+    private Limit defaultLimit = new Limit(100, 20);
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("signin", "/auth/signin", null, KeyType.IP, 10, 0.5),
+            new Route("signup", "/auth/signup", null, KeyType.IP, 5, 0.1),
+            new Route("todo-bulk", "/todos/bulk", "POST", KeyType.USER, 5, 0.2),
+            new Route("user-bulk", "/admin/users/bulk", "POST", KeyType.USER, 2, 0.05)
+    ));
+
+    public enum KeyType {
+        USER,   // 로그인한 유저 id 기준 (로그인하지 않은 요청은 IP 기준)
+        IP
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Route extends Limit {
+        private String name;
+        private String path;        // Ant 스타일 경로 패턴 ex) /todos/**
+        private String method;      // 비어 있으면 모든 HTTP 메서드
+        private KeyType key = KeyType.USER;
+
+        public Route(String name, String path, String method, KeyType key, int capacity, double refillPerSecond) {
+            super(capacity, refillPerSecond);
+            this.name = name;
+            this.path = path;
+            this.method = method;
+            this.key = key;
+        }
+    }
+}
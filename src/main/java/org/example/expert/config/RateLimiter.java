@@ -0,0 +1,82 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * key(제한 경로 + 유저 id 또는 IP) 별 token bucket
+ * 각 bucket 은 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 요청이 허용되는 이론상 시각" 하나만 AtomicLong 으로 관리하므로,
+ * 남은 토큰 수와 마지막 충전 시각을 함께 갱신할 필요 없이 CAS 한번으로 토큰을 꺼낼 수 있습니다. (락 없음)
+ * bucket 목록은 ConcurrentHashMap 으로 관리하고, 오래 사용되지 않아 가득 찬 bucket 은 주기적으로 제거합니다.
+ */
+@Component
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("rate.limit.buckets", buckets, ConcurrentHashMap::size)
+                .description("요청 수 제한 bucket 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 하나를 꺼냄
+     * @return 허용되면 0, 거절되면 다음 요청이 허용될 때까지 기다려야 하는 시간(nanos)
+     */
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = System.nanoTime();
+        long interval = (long) (NANOS_PER_SECOND / limit.getRefillPerSecond());     // 토큰 하나가 회복되는 시간
+        long tolerance = interval * (limit.getCapacity() - 1);                      // 몰아서 허용할 수 있는 시간 (capacity - 1 개 분량)
+
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+        }
+
+        while (true) {
+            long theoreticalArrivalTime = bucket.theoreticalArrivalTime.get();
+            long base = Math.max(theoreticalArrivalTime, now);
+            long waitNanos = base - tolerance - now;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.theoreticalArrivalTime.compareAndSet(theoreticalArrivalTime, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * idleTimeout 동안 사용되지 않은 bucket 제거
+     * 이론상 시각이 이미 지난 bucket 은 토큰이 가득 찬 상태와 같으므로 제거해도 제한 결과가 달라지지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long threshold = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.theoreticalArrivalTime.get() - threshold < 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrivalTime;
+
+        private Bucket(long now) {
+            this.theoreticalArrivalTime = new AtomicLong(now);
+        }
+    }
+}
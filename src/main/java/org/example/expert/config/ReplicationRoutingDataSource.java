@@ -0,0 +1,221 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 replica 로, 그 외에는 primary 로 보내는 DataSource
+ * 트랜잭션의 readOnly 여부는 커넥션을 얻은 뒤에 설정되므로, 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+ * (실제 커넥션을 첫 쿼리 시점까지 미뤄야 readOnly 여부를 보고 대상을 고를 수 있음)
+ *
+ * replica 는 round-robin 으로 고르며, 백그라운드에서 주기적으로 커넥션 유효성과 복제 지연을 점검해
+ * 점검에 실패한 replica 는 대상에서 제외합니다. 사용 가능한 replica 가 없으면 primary 로 읽습니다.
+ * 점검은 replica 마다 별도 스레드에서 실행하고 validationTimeout 까지만 기다립니다. (커넥션을 얻지 못하고 멈춘 replica 때문에 점검 전체가 밀리지 않도록)
+ * 첫 점검도 백그라운드에서 실행하므로 기동 시간에 영향을 주지 않으며, 첫 점검이 끝나기 전까지는 primary 로 읽습니다.
+ *
+ * 방금 쓴 데이터를 바로 다시 읽어야 하는 조회(캐시 채우기, 가입 직후 로그인 등)는 복제 지연의 영향을 받지 않도록
+ * 이름이 PRIMARY_READ_TRANSACTION_NAME 인 readOnly 트랜잭션(primaryReadTransactionTemplate)으로 실행해 primary 에서 읽습니다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY_KEY = "primary";
+    public static final String PRIMARY_READ_TRANSACTION_NAME = "primary-read";
+    private static final String REPLICA_KEY_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Duration healthCheckInterval;
+    private final Duration validationTimeout;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile List<String> healthyReplicaKeys = List.of();
+    private final Map<String, Future<Boolean>> runningChecks = new ConcurrentHashMap<>();
+    private final ExecutorService checkExecutor = Executors.newCachedThreadPool(daemonThreadFactory("replica-health-check-worker"));
+    private ScheduledExecutorService healthCheckExecutor;
+
+    public ReplicationRoutingDataSource(
+            DataSource primary,
+            List<DataSource> replicas,
+            Duration healthCheckInterval,
+            Duration validationTimeout,
+            String lagQuery,
+            Duration maxLag
+    ) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.put(REPLICA_KEY_PREFIX + i, replicas.get(i));
+        }
+        this.healthCheckInterval = healthCheckInterval;
+        this.validationTimeout = validationTimeout;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        Map<Object, Object> targetDataSources = new HashMap<>(this.replicas);
+        targetDataSources.put(PRIMARY_KEY, primary);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (replicas.isEmpty()) {
+            return;
+        }
+
+        healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("replica-health-check"));
+        if (!healthCheckInterval.isZero() && !healthCheckInterval.isNegative()) {
+            long intervalMillis = healthCheckInterval.toMillis();
+            healthCheckExecutor.scheduleWithFixedDelay(this::refreshReplicaHealth, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            healthCheckExecutor.execute(this::refreshReplicaHealth);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PRIMARY_READ_TRANSACTION_NAME.equals(TransactionSynchronizationManager.getCurrentTransactionName())) {
+            return PRIMARY_KEY;
+        }
+
+        List<String> keys = healthyReplicaKeys;
+        if (keys.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+        return keys.get(Math.floorMod(counter.getAndIncrement(), keys.size()));
+    }
+
+    /**
+     * 모든 replica 를 동시에 점검해서 읽기 대상 목록을 갱신 (최대 validationTimeout 동안 기다림)
+     * 시간 안에 끝나지 않은 점검은 중단하지 않고 다음 점검 때 결과를 다시 기다립니다. (replica 마다 점검 스레드는 최대 1개)
+     */
+    public void refreshReplicaHealth() {
+        Map<String, Future<Boolean>> checks = new LinkedHashMap<>();
+        for (Map.Entry<String, DataSource> entry : replicas.entrySet()) {
+            checks.put(entry.getKey(), runningChecks.compute(entry.getKey(), (key, running) ->
+                    running != null && !running.isDone() ? running : checkExecutor.submit(() -> isHealthy(key, entry.getValue()))));
+        }
+
+        long deadline = System.nanoTime() + validationTimeout.toNanos();
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, Future<Boolean>> check : checks.entrySet()) {
+            if (awaitCheck(check.getKey(), check.getValue(), deadline)) {
+                healthy.add(check.getKey());
+            }
+        }
+
+        List<String> previous = healthyReplicaKeys;
+        healthyReplicaKeys = Collections.unmodifiableList(healthy);
+        if (!previous.equals(healthy)) {
+            log.info("읽기 대상 replica 변경: {} -> {}", previous, healthy);
+        }
+    }
+
+    public List<String> getHealthyReplicaKeys() {
+        return healthyReplicaKeys;
+    }
+
+    private boolean awaitCheck(String key, Future<Boolean> check, long deadline) {
+        try {
+            return check.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("replica 점검 시간 초과: {} ({}ms)", key, validationTimeout.toMillis());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.warn("replica 점검 중 오류: {}", key, e.getCause());
+            return false;
+        }
+    }
+
+    private boolean isHealthy(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid((int) Math.max(1, validationTimeout.toSeconds()))) {
+                log.warn("replica 커넥션 점검 실패: {}", key);
+                return false;
+            }
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return true;
+            }
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                // 복제가 멈춘 경우(NULL)에도 지연된 것으로 판단
+                if (!resultSet.next()) {
+                    log.warn("replica 복제 지연 조회 결과 없음: {}", key);
+                    return false;
+                }
+                double lagSeconds = resultSet.getDouble(1);
+                if (resultSet.wasNull() || lagSeconds * 1000 > maxLag.toMillis()) {
+                    log.warn("replica 복제 지연 초과: {} (lag={}s)", key, resultSet.wasNull() ? null : lagSeconds);
+                    return false;
+                }
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("replica 점검 중 오류: {}", key, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+        checkExecutor.shutdownNow();
+        for (DataSource replica : replicas.values()) {
+            closeQuietly(replica);
+        }
+        closeQuietly(primary);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("DataSource 종료 중 오류", e);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.context.annotation.Bean;
@@ -21,10 +22,16 @@ import org.springframework.security.web.servletapi.SecurityContextHolderAwareReq
 public class SecurityConfig {
 
     private final JwtSecurityFilter jwtSecurityFilter;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
 
+    // 직접 사용하지 말고 PasswordHasher 를 통해 사용 (요청 스레드에서 BCrypt 계산 방지)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
     }
 
     @Bean
@@ -35,15 +42,22 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS) // SessionManagementFilter, SecurityContextPersistenceFilter
                 )
                 .addFilterBefore(jwtSecurityFilter, SecurityContextHolderAwareRequestFilter.class)
+                .addFilterBefore(concurrencyLimitFilter(), JwtSecurityFilter.class)    // 과부하 시 토큰 검증 전에 바로 503
+                .addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, meterRegistry), JwtSecurityFilter.class)  // 인증 정보(유저 id) 기준 요청 수 제한
                 .formLogin(AbstractHttpConfigurer::disable) // UsernamePasswordAuthenticationFilter, DefaultLoginPageGeneratingFilter 비활성화
                 .anonymous(AbstractHttpConfigurer::disable) // AnonymousAuthenticationFilter 비활성화
                 .httpBasic(AbstractHttpConfigurer::disable) // BasicAuthenticationFilter 비활성화
                 .logout(AbstractHttpConfigurer::disable) // LogoutFilter 비활성화
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/signin", "/auth/signup").permitAll()
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()  // 상태 확인 / 지표 수집 : 관리 포트(management.server.port)로만 열려 있음
                         .requestMatchers("/test").hasAuthority(UserRole.Authority.ADMIN)
                         .anyRequest().authenticated()
                 )
                 .build();
     }
+
+    private ConcurrencyLimitFilter concurrencyLimitFilter() {
+        return new ConcurrencyLimitFilter(concurrencyLimiterRegistry, concurrencyLimitProperties.isEnabled());
+    }
 }
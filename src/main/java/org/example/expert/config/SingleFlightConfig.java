@@ -0,0 +1,42 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.concurrent.SingleFlight;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 조회 요청 병합(single-flight) 빈 설정
+ * 빈 이름이 그대로 지표(metric)의 이름 태그로 사용됩니다.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    // 같은 조회를 기다리는 요청의 최대 대기 시간 (leader 조회가 이보다 오래 걸리면 기다리던 요청은 503)
+    @Value("${app.single-flight.follower-timeout:PT5S}")
+    private Duration followerTimeout;
+
+    // 일정 단건 조회 : key = todoId
+    @Bean
+    public SingleFlight<Long, TodoResponse> todoSingleFlight() {
+        return new SingleFlight<>(followerTimeout);
+    }
+
+    // 일정 목록(page) 조회 : key = [검색 조건, page, size]
+    @Bean
+    public SingleFlight<List<Object>, PageResponse<TodoResponse>> todoPageSingleFlight() {
+        return new SingleFlight<>(followerTimeout);
+    }
+
+    // 일정 목록(cursor) 조회 : key = [검색 조건, cursor, size]
+    @Bean
+    public SingleFlight<List<Object>, SliceResponse<TodoResponse>> todoSliceSingleFlight() {
+        return new SingleFlight<>(followerTimeout);
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 수 / JDBC 실행 시간 / 가장 느린 SQL 을 수집
+ * - app.sql-metrics.response-headers=true (개발 환경) : 응답 헤더(X-Sql-*)로 노출
+ * - MeterRegistry 가 있으면 uri 별 지표(sql.statements.per.request, sql.time.per.request)로 기록
+ * - 한 문장의 실행 시간이 app.sql-metrics.slow-statement-threshold 를 넘으면 경고 로그
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Sql-Count";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String SLOWEST_HEADER = "X-Sql-Slowest";
+    private static final int MAX_SQL_HEADER_LENGTH = 200;
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final boolean enabled;
+    private final boolean responseHeaders;
+    private final Duration slowStatementThreshold;
+
+    public SqlStatementMetricsFilter(
+            ObjectProvider<MeterRegistry> meterRegistryProvider,
+            @Value("${app.sql-metrics.enabled:true}") boolean enabled,
+            @Value("${app.sql-metrics.response-headers:false}") boolean responseHeaders,
+            @Value("${app.sql-metrics.slow-statement-threshold:500ms}") Duration slowStatementThreshold
+    ) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.enabled = enabled;
+        this.responseHeaders = responseHeaders;
+        this.slowStatementThreshold = slowStatementThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain chain
+    ) throws ServletException, IOException {
+        // 이미 측정 중이면(테스트의 SqlStatementCountExtension 등) 그 통계에 이어서 기록
+        SqlStatementStats current = SqlStatementStats.current();
+        boolean owner = current == null;
+        SqlStatementStats stats = owner ? SqlStatementStats.begin() : current;
+
+        try {
+            if (responseHeaders) {
+                StatsHeaderResponseWrapper wrapper = new StatsHeaderResponseWrapper(response, stats);
+                chain.doFilter(request, wrapper);
+                wrapper.writeHeaders();
+            } else {
+                chain.doFilter(request, response);
+            }
+        } finally {
+            if (owner) {
+                SqlStatementStats.end();
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getSlowestNanos() > slowStatementThreshold.toNanos()) {
+            log.warn("느린 SQL ({}ms) - {} {} : {}",
+                    TimeUnit.NANOSECONDS.toMillis(stats.getSlowestNanos()), request.getMethod(), request.getRequestURI(), stats.getSlowestSql());
+        }
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return;
+        }
+
+        // uri 태그는 실제 경로가 아닌 매핑된 패턴(/todos/{todoId})을 사용하여 태그 값의 개수를 제한
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+
+        DistributionSummary.builder("sql.statements.per.request")
+                .description("요청 하나에서 실행된 SQL 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("sql.time.per.request")
+                .description("요청 하나에서 JDBC 실행에 걸린 총 시간")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getTotalNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 응답이 커밋되기 직전에 헤더를 추가하기 위한 wrapper (커밋된 이후에는 헤더를 추가할 수 없음)
+     */
+    private static class StatsHeaderResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final SqlStatementStats stats;
+        private boolean written;
+
+        StatsHeaderResponseWrapper(HttpServletResponse response, SqlStatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            HttpServletResponse response = (HttpServletResponse) getResponse();
+            if (written || response.isCommitted()) {
+                return;
+            }
+            written = true;
+
+            response.setHeader(COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.setHeader(TIME_HEADER, String.format("%.3f", stats.getTotalNanos() / 1_000_000.0));
+            if (stats.getSlowestSql() != null) {
+                String sql = stats.getSlowestSql().replaceAll("\\s+", " ");
+                response.setHeader(SLOWEST_HEADER, sql.length() > MAX_SQL_HEADER_LENGTH ? sql.substring(0, MAX_SQL_HEADER_LENGTH) : sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+
+/**
+ * 요청(또는 테스트) 하나에서 실행된 SQL 통계
+ * 현재 스레드에 묶어서 사용하며, SqlStatementInspector / SqlStatementTimingListener 가 값을 채웁니다.
+ * 다른 스레드(비동기 작업, single-flight 로 병합된 다른 요청의 조회 등)에서 실행된 SQL 은 포함되지 않습니다.
+ */
+@Getter
+public class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long totalNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private String lastSql;
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void onStatement(String sql) {
+        statementCount++;
+        lastSql = sql;
+    }
+
+    void onExecution(long elapsedNanos) {
+        totalNanos += elapsedNanos;
+        if (elapsedNanos > slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = lastSql;
+        }
+    }
+
+    public void reset() {
+        statementCount = 0;
+        totalNanos = 0;
+        slowestNanos = 0;
+        slowestSql = null;
+        lastSql = null;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시간 측정 (hibernate.session.events.auto 로 세션마다 새로 생성됨)
+ * 실행 시간은 직전에 SqlStatementInspector 가 기록한 SQL 의 실행 시간으로 봅니다.
+ */
+public class SqlStatementTimingListener implements SessionEventListener {
+
+    private long startNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.onExecution(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 웹 설정
+ * 프록시 뒤에서 클라이언트 IP 를 얻기 위한 forwarded header 처리 등 웹 서버 기본값은 web.properties 에 두었고, application.yml 에 값이 있으면 그 값을 우선 사용합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@PropertySource("classpath:web.properties")
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    // 목록 응답은 기본 Jackson 변환기보다 먼저 ListResponseHttpMessageConverter 가 처리
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ListResponseHttpMessageConverter(objectMapper));
+    }
+}
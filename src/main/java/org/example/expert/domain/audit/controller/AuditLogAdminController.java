@@ -0,0 +1,34 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.service.AuditLogService;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditLogAdminController {
+
+    private final AuditLogService auditLogService;
+
+    /**
+     * 관리자 API 호출 기록 조회
+     * 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 넘기면 됩니다.
+     */
+    @Secured(UserRole.Authority.ADMIN)
+    @GetMapping("/admin/audit-logs")
+    public ResponseEntity<SliceResponse<AuditLogResponse>> getAuditLogs(
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(auditLogService.getAuditLogs(actorId, action, cursor, size));
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AuditLogResponse {
+
+    private final Long id;
+    private final Long actorId;
+    private final String actorEmail;
+    private final String action;
+    private final String httpMethod;
+    private final String requestUri;
+    private final boolean success;
+    private final String errorMessage;
+    private final long durationMs;
+    private final LocalDateTime occurredAt;
+
+    public AuditLogResponse(Long id, Long actorId, String actorEmail, String action, String httpMethod, String requestUri,
+                            boolean success, String errorMessage, long durationMs, LocalDateTime occurredAt) {
+        this.id = id;
+        this.actorId = actorId;
+        this.actorEmail = actorEmail;
+        this.action = action;
+        this.httpMethod = httpMethod;
+        this.requestUri = requestUri;
+        this.success = success;
+        this.errorMessage = errorMessage;
+        this.durationMs = durationMs;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.audit.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 API 호출 기록
+ * 요청 스레드에서 바로 저장하지 않고 AuditLogWriter 가 JDBC batch 로 모아서 저장하므로, 이 엔티티는 조회용으로만 사용합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_log_actor_id_id", columnList = "actorId, id")     // 관리자별 조회용 인덱스
+})
+public class AuditLog {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long actorId;
+    private String actorEmail;
+    private String action;          // 호출된 컨트롤러 메서드 ex) UserAdminController.changeUserRole
+    private String httpMethod;
+    private String requestUri;
+    private boolean success;
+    private String errorMessage;
+    private long durationMs;
+    private LocalDateTime occurredAt;
+}
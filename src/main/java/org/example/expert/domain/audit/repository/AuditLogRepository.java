@@ -0,0 +1,7 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.entity.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, AuditLogSearchRepository {
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.audit.repository;
+
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+
+import java.util.List;
+
+public interface AuditLogSearchRepository {
+
+    // 최신순(id 내림차순)으로 cursor(마지막으로 받은 id) 이전의 기록을 limit 건 조회
+    List<AuditLogResponse> searchAuditLogs(Long actorId, String action, Long cursor, int limit);
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.audit.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+import static org.example.expert.domain.audit.entity.QAuditLog.auditLog;
+
+@Repository
+@RequiredArgsConstructor
+public class AuditLogSearchRepositoryImpl implements AuditLogSearchRepository {
+
+    private static final ConstructorExpression<AuditLogResponse> AUDIT_LOG_RESPONSE = Projections.constructor(
+            AuditLogResponse.class,
+            auditLog.id,
+            auditLog.actorId,
+            auditLog.actorEmail,
+            auditLog.action,
+            auditLog.httpMethod,
+            auditLog.requestUri,
+            auditLog.success,
+            auditLog.errorMessage,
+            auditLog.durationMs,
+            auditLog.occurredAt
+    );
+
+    private final JPAQueryFactory q;
+
+    @Override
+    public List<AuditLogResponse> searchAuditLogs(Long actorId, String action, Long cursor, int limit) {
+        return q
+                .select(AUDIT_LOG_RESPONSE)
+                .from(auditLog)
+                .where(
+                        actorIdEq(actorId),
+                        actionEq(action),
+                        idLt(cursor)
+                )
+                .orderBy(auditLog.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression actorIdEq(Long actorId) {
+        return actorId != null ? auditLog.actorId.eq(actorId) : null;
+    }
+
+    private BooleanExpression actionEq(String action) {
+        return StringUtils.hasText(action) ? auditLog.action.eq(action) : null;
+    }
+
+    private BooleanExpression idLt(Long cursor) {
+        return cursor != null ? auditLog.id.lt(cursor) : null;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 관리자 API 호출 기록 (AuditLogWriter 의 링 버퍼에 담기는 값)
+ */
+@Getter
+public class AuditEvent {
+
+    private final Long actorId;
+    private final String actorEmail;
+    private final String action;
+    private final String httpMethod;
+    private final String requestUri;
+    private final boolean success;
+    private final String errorMessage;
+    private final long durationMs;
+    private final LocalDateTime occurredAt;
+
+    public AuditEvent(Long actorId, String actorEmail, String action, String httpMethod, String requestUri,
+                      boolean success, String errorMessage, long durationMs, LocalDateTime occurredAt) {
+        this.actorId = actorId;
+        this.actorEmail = actorEmail;
+        this.action = action;
+        this.httpMethod = httpMethod;
+        this.requestUri = requestUri;
+        this.success = success;
+        this.errorMessage = errorMessage;
+        this.durationMs = durationMs;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 관리자 API 호출 기록 설정 (app.audit.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditLogProperties {
+
+    private int bufferCapacity = 8192;                          // 저장 대기 최대 개수 (2의 거듭제곱으로 올림), 초과하면 버림
+    private int batchSize = 200;                                // 한번의 JDBC batch 로 저장할 최대 개수
+    private Duration flushInterval = Duration.ofMillis(500);    // 대기 중인 기록이 batchSize 보다 적을 때 저장하는 주기
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditLogResponse;
+import org.example.expert.domain.audit.repository.AuditLogRepository;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuditLogService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final AuditLogRepository auditLogRepository;
+
+    /**
+     * 관리자 API 호출 기록 커서 조회 (최신순)
+     * 비동기로 저장되므로 방금 호출한 기록은 flushInterval 만큼 늦게 조회될 수 있습니다.
+     */
+    public SliceResponse<AuditLogResponse> getAuditLogs(Long actorId, String action, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw InvalidRequestException.withoutStackTrace("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        List<AuditLogResponse> auditLogs = auditLogRepository.searchAuditLogs(actorId, action, cursor, size + 1);
+
+        boolean hasNext = auditLogs.size() > size;
+        if (hasNext) {
+            auditLogs = auditLogs.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? String.valueOf(auditLogs.get(auditLogs.size() - 1).getId()) : null;
+        return new SliceResponse<>(auditLogs, nextCursor, hasNext);
+    }
+}
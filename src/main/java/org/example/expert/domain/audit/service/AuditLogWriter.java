@@ -0,0 +1,136 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.concurrent.BoundedRingBuffer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 API 호출 기록을 비동기로 모아서 저장
+ * - 요청 스레드는 lock-free 링 버퍼에 넣기만 하고 바로 돌아갑니다. (DB 저장을 기다리지 않음)
+ * - 백그라운드 스레드 하나가 버퍼에서 최대 batchSize 개씩 꺼내 audit_log 테이블에 JDBC batch 로 저장합니다.
+ * - 버퍼가 가득 차면 기록을 버리고 audit.log.dropped 지표를 올립니다. (관리자 요청 자체는 실패시키지 않음)
+ * - 애플리케이션 종료 시 남아 있는 기록을 모두 저장합니다.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO audit_log " +
+            "(actor_id, actor_email, action, http_method, request_uri, success, error_message, duration_ms, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogProperties properties;
+    private final BoundedRingBuffer<AuditEvent> ringBuffer;
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate, AuditLogProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.ringBuffer = new BoundedRingBuffer<>(properties.getBufferCapacity());
+
+        this.enqueuedCounter = Counter.builder("audit.log.enqueued")
+                .description("저장 대기열에 들어간 기록 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.log.dropped")
+                .description("대기열이 가득 차서 버려진 기록 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.log.written")
+                .description("저장된 기록 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.log.write.failed")
+                .description("저장에 실패한 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("audit.log.buffer.size", ringBuffer, BoundedRingBuffer::size)
+                .description("저장 대기 중인 기록 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void enqueue(AuditEvent event) {
+        if (!ringBuffer.offer(event)) {
+            droppedCounter.increment();
+            return;
+        }
+        enqueuedCounter.increment();
+
+        // 한 batch 분량이 모였으면 flushInterval 을 기다리지 않고 바로 저장
+        if (ringBuffer.size() >= properties.getBatchSize()) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+
+        while (running) {
+            batch.clear();
+            ringBuffer.drainTo(batch, properties.getBatchSize());
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            write(batch);
+        }
+    }
+
+    private void write(List<AuditEvent> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setObject(1, event.getActorId());
+                ps.setString(2, event.getActorEmail());
+                ps.setString(3, event.getAction());
+                ps.setString(4, event.getHttpMethod());
+                ps.setString(5, event.getRequestUri());
+                ps.setBoolean(6, event.isSuccess());
+                ps.setString(7, event.getErrorMessage());
+                ps.setLong(8, event.getDurationMs());
+                ps.setTimestamp(9, Timestamp.valueOf(event.getOccurredAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("관리자 API 호출 기록 {}건 저장에 실패했습니다.", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 종료 시점에 남아 있는 기록 저장
+        List<AuditEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (ringBuffer.drainTo(batch, properties.getBatchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+}
@@ -1,37 +1,50 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("primaryReadTransactionTemplate")
+    private final TransactionTemplate primaryReadTransactionTemplate;
 
-    @Transactional
+    /**
+     * 회원가입 / 로그인은 비밀번호 해시(BCrypt) 계산 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행하고,
+     * 조회 / 저장만 각각 짧은 트랜잭션으로 처리합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -41,24 +54,48 @@ public class AuthService {
                 userRole,
                 signupRequest.getNickname()
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser = transactionTemplate.execute(status -> userRepository.save(newUser));
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getNickname());
 
         return new SignupResponse(bearerToken);
     }
 
+    /**
+     * 가입 / 비밀번호 변경 직후의 로그인이 복제 지연 때문에 실패하지 않도록 유저는 primary 에서 조회합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        User user = primaryReadTransactionTemplate.execute(status -> userRepository.loadByEmail(signinRequest.getEmail()))
+                .orElseThrow(() -> InvalidRequestException.withoutStackTrace("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        rehashIfNeeded(user, signinRequest.getPassword());
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
 
         return new SigninResponse(bearerToken);
     }
+
+    /**
+     * BCrypt cost 설정이 바뀐 경우, 평문 비밀번호를 알 수 있는 로그인 시점에 새 cost 로 다시 해시해서 저장합니다.
+     * 다시 해시하지 못하더라도(대기열 초과 등) 로그인은 성공시키고 다음 로그인 때 다시 시도합니다.
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            String rehashedPassword = passwordHasher.encode(rawPassword);
+            transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId())
+                    .ifPresent(savedUser -> savedUser.changePassword(rehashedPassword)));
+        } catch (ServiceUnavailableException e) {
+            log.warn("비밀번호 재해시를 다음 로그인으로 미룹니다. userId={}", user.getId());
+        }
+    }
 }
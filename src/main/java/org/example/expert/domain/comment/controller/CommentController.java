@@ -8,6 +8,8 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -29,8 +31,31 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    /**
+     * cursor 없는 기존 댓글 조회 (deprecated) : 응답 형식(배열)은 그대로 두고 첫 1000건까지만 응답합니다.
+     * Deprecation 헤더를 붙이고, 남은 댓글이 있으면 이어서 조회할 커서 조회 주소를 Link(rel="next") 헤더로 알려줍니다.
+     */
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+        SliceResponse<CommentResponse> slice = commentService.getComments(todoId);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().header("Deprecation", "true");
+        if (slice.isHasNext()) {
+            response.header(HttpHeaders.LINK, "</todos/" + todoId + "/comments?cursor=" + slice.getNextCursor() + ">; rel=\"next\"");
+        }
+        return response.body(slice.getContents());
+    }
+
+    /**
+     * 댓글 커서 조회 : cursor 파라미터가 있는 요청은 이 핸들러로 매핑됩니다.
+     * 첫 페이지는 cursor 값을 비워서(cursor=) 요청하고, 이후에는 응답의 nextCursor를 그대로 넘기면 됩니다.
+     */
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    public ResponseEntity<SliceResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
     }
 }
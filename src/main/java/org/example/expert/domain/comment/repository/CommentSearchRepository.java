@@ -0,0 +1,11 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+import java.util.List;
+
+public interface CommentSearchRepository {
+
+    List<CommentResponse> findCommentResponsesByTodoIdAfterCursor(long todoId, Long cursor, int limit);
+
+}
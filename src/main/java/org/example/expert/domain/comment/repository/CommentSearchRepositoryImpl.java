@@ -0,0 +1,53 @@
+package org.example.expert.domain.comment.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static org.example.expert.domain.comment.entity.QComment.comment;
+import static org.example.expert.domain.user.entity.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentSearchRepositoryImpl implements CommentSearchRepository {
+
+    // Comment / User 엔티티를 만들지 않고 바로 응답 DTO로 조회하기 위한 프로젝션
+    private static final ConstructorExpression<CommentResponse> COMMENT_RESPONSE = Projections.constructor(
+            CommentResponse.class,
+            comment.id,
+            comment.contents,
+            Projections.constructor(UserResponse.class, user.id, user.email, user.nickname)
+    );
+
+    private final JPAQueryFactory q;
+
+    /**
+     * 댓글 id 기준 keyset 페이지네이션
+     * (todo_id, id) 인덱스를 타고 커서 다음 위치부터 limit 건만 읽습니다.
+     */
+    @Override
+    public List<CommentResponse> findCommentResponsesByTodoIdAfterCursor(long todoId, Long cursor, int limit) {
+        return q
+                .select(COMMENT_RESPONSE)
+                .from(comment)
+                .join(comment.user, user)
+                .where(
+                        comment.todo.id.eq(todoId),
+                        idGt(cursor)
+                )
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression idGt(Long cursor) {
+        return cursor != null ? comment.id.gt(cursor) : null;
+    }
+}
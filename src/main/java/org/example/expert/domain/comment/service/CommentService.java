@@ -7,15 +7,17 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -23,14 +25,18 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int LEGACY_MAX_SIZE = 1000;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoResponseCache todoResponseCache;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+                InvalidRequestException.withoutStackTrace("Todo not found"));
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
@@ -39,6 +45,8 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.increaseCommentCount(todo.getId(), LocalDateTime.now());
+        todoResponseCache.evict(todo.getId());
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,19 +55,35 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    /**
+     * cursor 없는 기존 댓글 조회 (deprecated, 기존 클라이언트 호환용)
+     * 댓글 수와 관계없이 첫 LEGACY_MAX_SIZE 건까지만 조회하고, 남은 댓글은 nextCursor 로 커서 조회를 이어서 하도록 합니다.
+     */
+    public SliceResponse<CommentResponse> getComments(long todoId) {
+        return loadSlice(todoId, null, LEGACY_MAX_SIZE);
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail(), user.getNickname())
-            );
-            dtoList.add(dto);
+    /**
+     * 댓글 커서(keyset) 조회 : cursor(마지막으로 받은 댓글 id) 이후의 댓글을 size 만큼 조회합니다.
+     * 댓글 엔티티를 조회해서 DTO 리스트로 다시 복사하지 않고, 프로젝션 쿼리로 CommentResponse를 바로 조회합니다.
+     */
+    public SliceResponse<CommentResponse> getCommentsByCursor(long todoId, Long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw InvalidRequestException.withoutStackTrace("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
         }
-        return dtoList;
+        return loadSlice(todoId, cursor, size);
+    }
+
+    // size + 1건을 조회해서 다음 페이지 존재 여부를 판단
+    private SliceResponse<CommentResponse> loadSlice(long todoId, Long cursor, int size) {
+        List<CommentResponse> comments = commentRepository.findCommentResponsesByTodoIdAfterCursor(todoId, cursor, size + 1);
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? String.valueOf(comments.get(comments.size() - 1).getId()) : null;
+        return new SliceResponse<>(comments, nextCursor, hasNext);
     }
 }
@@ -0,0 +1,106 @@
+package org.example.expert.domain.common.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 크기가 고정된 lock-free 링 버퍼 (Dmitry Vyukov 의 bounded MPMC queue)
+ * 칸(slot)마다 sequence 값을 두어, 생산자는 sequence == 쓰기 위치 인 칸에만 쓰고 소비자는 sequence == 읽기 위치 + 1 인 칸에서만 읽습니다.
+ * 위치 선점은 CAS 한번으로 끝나기 때문에 여러 요청 스레드가 동시에 넣어도 락을 잡지 않으며,
+ * 가득 찬 경우 기다리지 않고 바로 false 를 반환합니다. (호출하는 쪽에서 버릴지 결정)
+ */
+public class BoundedRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    // capacity 는 2의 거듭제곱으로 올림 (위치 % capacity 를 비트 연산으로 계산)
+    public BoundedRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity는 2 이상이어야 합니다.");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E element) {
+        long position = enqueuePosition.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;   // 한 바퀴 전의 값을 아직 읽지 않음 = 가득 참
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+
+        buffer.set(index, element);
+        sequences.set(index, position + 1);     // 소비자에게 공개
+        return true;
+    }
+
+    public E poll() {
+        long position = dequeuePosition.get();
+        int index;
+        while (true) {
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                return null;    // 아직 쓰이지 않음 = 비어 있음
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+
+        E element = buffer.get(index);
+        buffer.set(index, null);
+        sequences.set(index, position + mask + 1);  // 다음 바퀴의 생산자에게 칸을 돌려줌
+        return element;
+    }
+
+    // 최대 maxElements 개를 꺼내서 target 에 담고, 꺼낸 개수를 반환
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    // 동시에 넣고 빼는 중에는 근사값
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key에 대한 동시 요청을 하나로 합쳐주는 요청 병합(single-flight) 유틸
+ * 가장 먼저 들어온 요청(leader)만 loader를 실행하고, 실행 도중 같은 key로 들어온 요청들은 leader의 결과(또는 예외)를 그대로 받습니다.
+ * 결과를 저장해두지는 않기 때문에 캐시와는 별개로 동작합니다. (실행이 끝나면 다음 요청은 다시 loader를 실행)
+ * leader의 실행이 멈추더라도 기다리는 요청 스레드가 함께 묶여 있지 않도록, 기다리는 시간은 followerTimeout 으로 제한합니다. (초과하면 503)
+ */
+public class SingleFlight<K, V> {
+
+    private final long followerTimeoutNanos;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();  // 실제로 loader를 실행한 횟수
+    private final LongAdder collapsed = new LongAdder();   // 진행중인 실행에 합쳐진 요청 수
+
+    public SingleFlight(Duration followerTimeout) {
+        this.followerTimeoutNanos = followerTimeout.toNanos();
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    // leader에서 발생한 예외를 ExecutionException으로 감싸지 않고 그대로 던짐 (GlobalExceptionHandler에서 처리되도록)
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get(followerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw ServiceUnavailableException.withoutStackTrace("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ServiceUnavailableException.withoutStackTrace("요청 처리가 중단되었습니다.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * 페이지(page, size) 기반 조회 결과를 담는 응답 객체입니다.
+ * Spring Data 의 Page(PageImpl) 를 그대로 내려주면 pageable / sort 등 클라이언트가 쓰지 않는 필드까지 모두 직렬화되고,
+ * 구현 클래스가 바뀌면 응답 형태도 바뀌기 때문에 목록과 페이지 정보만 담아서 내려줍니다.
+ */
+@Getter
+public class PageResponse<T> {
+
+    private final List<T> contents;
+    private final int page;             // 1부터 시작
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+    private final boolean hasNext;
+
+    public PageResponse(List<T> contents, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+        this.contents = contents;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber() + 1,
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext()
+        );
+    }
+}
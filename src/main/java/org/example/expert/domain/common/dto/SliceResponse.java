@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 조회 결과를 담는 응답 객체입니다.
+ * 전체 개수(COUNT) 대신 다음 페이지 존재 여부(hasNext)와 다음 요청에 사용할 커서(nextCursor)만 내려줍니다.
+ */
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> contents;
+    private final String nextCursor;    // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+
+    public SliceResponse(List<T> contents, String nextCursor, boolean hasNext) {
+        this.contents = contents;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -4,4 +4,17 @@ public class InvalidRequestException extends RuntimeException {
     public InvalidRequestException(String message) {
         super(message);
     }
+
+    protected InvalidRequestException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * 스택 트레이스를 만들지 않는 예외
+     * "Todo not found" 처럼 잘못된 요청이면 자주 발생하지만 원인을 추적할 필요가 없는 경우에 사용합니다.
+     * 예외 생성 비용의 대부분은 호출 스택을 채우는 비용(fillInStackTrace)이라, 400 응답이 몰려도 부담이 적습니다.
+     */
+    public static InvalidRequestException withoutStackTrace(String message) {
+        return new InvalidRequestException(message, false);
+    }
 }
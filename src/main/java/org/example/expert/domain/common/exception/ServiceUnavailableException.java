@@ -0,0 +1,20 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 서버가 일시적으로 요청을 처리할 수 없는 경우 (작업 대기열 초과 등) - 503
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    protected ServiceUnavailableException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    // 과부하로 요청을 거절할 때 사용 (거절이 몰리는 상황에서 스택 트레이스 생성 비용을 줄임)
+    public static ServiceUnavailableException withoutStackTrace(String message) {
+        return new ServiceUnavailableException(message, false);
+    }
+}
@@ -12,7 +12,10 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일정과 함께 batch insert 되도록 Todo와 같은 pooled 시퀀스 방식 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "managers_seq_generator")
+    @SequenceGenerator(name = "managers_seq_generator", sequenceName = "managers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
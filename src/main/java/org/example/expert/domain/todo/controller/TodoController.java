@@ -1,23 +1,43 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 일정 조회 API 는 조건부 조회(If-None-Match / If-Modified-Since)를 지원합니다.
+ * 클라이언트가 이전 응답의 ETag / Last-Modified 를 보내면 버전(TodoVersion)만 조회해서, 바뀐 것이 없으면 본문 없이 304 로 응답합니다.
+ * 버전 조회는 조건부 요청일 때만 하고, 일반 요청은 응답 본문으로 ETag 를 만들기 때문에 추가 쿼리가 없습니다. (목록은 If-None-Match 만 지원)
+ */
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -27,19 +47,104 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    /**
+     * 외부 시스템에서 일정을 옮겨올 때 사용하는 대량 저장 API
+     * 일부 항목이 실패해도 나머지는 저장되며, 항목별 결과를 요청 순서대로 응답합니다.
+     */
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody TodoBulkSaveRequest todoBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(todoBulkService.saveTodos(authUser, todoBulkSaveRequest));
+    }
+
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<PageResponse<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String weather,
             @RequestParam(required = false, value = "searchStartDate") String searchStartDate,
-            @RequestParam(required = false, value = "searchEndDate") String searchEndDate
+            @RequestParam(required = false, value = "searchEndDate") String searchEndDate,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size, weather, searchStartDate, searchEndDate));
+        if (isConditional(webRequest)
+                && webRequest.checkNotModified(todoService.getTodoPageVersion(page, size, weather, searchStartDate, searchEndDate).getETag())) {
+            return null;
+        }
+
+        PageResponse<TodoResponse> pageResponse = todoService.getTodos(page, size, weather, searchStartDate, searchEndDate);
+        return ResponseEntity.ok().eTag(TodoVersion.ofPage(pageResponse).getETag()).body(pageResponse);
     }
 
+    /**
+     * 커서 기반 목록 조회 : cursor 파라미터가 있는 요청은 이 핸들러로 매핑되고, 기존 page/size 요청은 위의 getTodos가 그대로 처리합니다.
+     * 첫 페이지는 cursor 값을 비워서(cursor=) 요청하고, 이후에는 응답의 nextCursor를 그대로 넘기면 됩니다.
+     */
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<SliceResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false, value = "searchStartDate") String searchStartDate,
+            @RequestParam(required = false, value = "searchEndDate") String searchEndDate,
+            WebRequest webRequest
+    ) {
+        if (isConditional(webRequest)
+                && webRequest.checkNotModified(todoService.getTodoSliceVersion(cursor, size, weather, searchStartDate, searchEndDate).getETag())) {
+            return null;
+        }
+
+        SliceResponse<TodoResponse> sliceResponse = todoService.getTodosByCursor(cursor, size, weather, searchStartDate, searchEndDate);
+        return ResponseEntity.ok().eTag(TodoVersion.ofSlice(sliceResponse).getETag()).body(sliceResponse);
+    }
+
+    /**
+     * 분석용 일정 내보내기 : 목록 조회와 같은 검색 조건으로 전체 일정을 NDJSON(기본) 또는 CSV로 스트리밍합니다.
+     */
+    @GetMapping("/todos/export")
+    public void exportTodos(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false, value = "searchStartDate") String searchStartDate,
+            @RequestParam(required = false, value = "searchEndDate") String searchEndDate,
+            HttpServletResponse response
+    ) throws IOException {
+        TodoExportService.Format exportFormat = TodoExportService.Format.of(format);
+        TodoSearchCondition condition = TodoSearchCondition.of(weather, searchStartDate, searchEndDate);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"");
+
+        todoExportService.export(condition, exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * 단건 조회는 응답이 캐시되어 있는 경우가 많아서, 조건부 요청일 때만 버전을 먼저 확인합니다.
+     * 일반 요청은 바로 응답을 조회하고, 응답 내용으로 만든 ETag / Last-Modified 를 함께 내려줍니다.
+     */
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        if (isConditional(webRequest)) {
+            TodoVersion version = todoService.getTodoVersion(todoId);
+            if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+                return null;
+            }
+        }
+
+        TodoResponse todoResponse = todoService.getTodo(todoId);
+        TodoVersion version = TodoVersion.from(todoResponse);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(version.getETag());
+        if (version.getLastModified() >= 0) {
+            builder.lastModified(version.getLastModified());
+        }
+        return builder.body(todoResponse);
+    }
+
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
     }
 }
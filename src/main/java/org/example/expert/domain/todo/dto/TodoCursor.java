@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 keyset 페이지네이션 커서
+ * 마지막으로 내려준 일정의 (modifiedAt, id)를 담고 있으며, 클라이언트에게는 Base64(URL-safe) 문자열로 감싸서 불투명하게 전달합니다.
+ * 다음 요청에서는 (modifiedAt, id) 보다 "작은" 행부터 조회하므로 OFFSET 스캔과 COUNT 쿼리가 필요 없습니다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = modifiedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 비어있으면 첫 페이지 요청으로 보고 null을 반환합니다.
+     */
+    public static TodoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.valueOf(raw.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw InvalidRequestException.withoutStackTrace("유효하지 않은 커서입니다.");
+        }
+    }
+}
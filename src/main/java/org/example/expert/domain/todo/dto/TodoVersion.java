@@ -0,0 +1,113 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 조건부 조회(If-None-Match / If-Modified-Since)에 사용하는 일정 버전 (ETag, Last-Modified)
+ * 응답 본문을 만들지 않고도 바뀌었는지 판단할 수 있도록, 응답 내용이 바뀔 때 함께 바뀌는 값만으로 만듭니다.
+ * - 단건 : id + modifiedAt + 댓글 수 + 담당자 수 (Last-Modified 는 modifiedAt 과 countersModifiedAt 중 늦은 시각)
+ * - 목록 : 해당 페이지 일정들의 단건 버전 + 전체 개수(page) 또는 다음 페이지 여부(cursor) 의 해시
+ *   목록의 ETag 는 응답 본문만으로 다시 만들 수 있으므로 일반 요청에는 추가 쿼리가 없고, Last-Modified 는 내려주지 않습니다.
+ */
+@Getter
+public class TodoVersion {
+
+    private static final long UNKNOWN = -1;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int LIST_ETAG_BYTES = 16;
+
+    private final String eTag;
+    private final long lastModified;    // epoch millis, 알 수 없으면 -1
+
+    private TodoVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public static TodoVersion of(Long id, LocalDateTime modifiedAt, LocalDateTime countersModifiedAt, int commentCount, int managerCount) {
+        LocalDateTime lastModifiedAt = countersModifiedAt != null && (modifiedAt == null || countersModifiedAt.isAfter(modifiedAt))
+                ? countersModifiedAt
+                : modifiedAt;
+
+        return new TodoVersion(
+                "\"" + id + "-" + Long.toHexString(toEpochMicros(modifiedAt)) + "-" + commentCount + "-" + managerCount + "\"",
+                toEpochMillis(lastModifiedAt)
+        );
+    }
+
+    public static TodoVersion from(TodoResponse todoResponse) {
+        return of(
+                todoResponse.getId(),
+                todoResponse.getModifiedAt(),
+                todoResponse.getCountersModifiedAt(),
+                todoResponse.getCommentCount(),
+                todoResponse.getManagerCount()
+        );
+    }
+
+    public static TodoVersion ofPage(List<TodoVersion> items, long totalElements) {
+        return ofList(items, "t" + totalElements);
+    }
+
+    public static TodoVersion ofSlice(List<TodoVersion> items, boolean hasNext) {
+        return ofList(items, hasNext ? "n" : "e");
+    }
+
+    public static TodoVersion ofPage(PageResponse<TodoResponse> pageResponse) {
+        return ofPage(fromAll(pageResponse.getContents()), pageResponse.getTotalElements());
+    }
+
+    public static TodoVersion ofSlice(SliceResponse<TodoResponse> sliceResponse) {
+        return ofSlice(fromAll(sliceResponse.getContents()), sliceResponse.isHasNext());
+    }
+
+    private static List<TodoVersion> fromAll(List<TodoResponse> contents) {
+        return contents.stream().map(TodoVersion::from).toList();
+    }
+
+    private static TodoVersion ofList(List<TodoVersion> items, String suffix) {
+        MessageDigest digest = sha256();
+        for (TodoVersion item : items) {
+            digest.update(item.getETag().getBytes(StandardCharsets.US_ASCII));
+        }
+        digest.update(suffix.getBytes(StandardCharsets.US_ASCII));
+
+        byte[] hash = digest.digest();
+        return new TodoVersion("\"l-" + HexFormat.of().formatHex(hash, 0, LIST_ETAG_BYTES) + "\"", UNKNOWN);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);    // 모든 JVM 이 SHA-256 을 지원해야 하므로 발생하지 않음
+        }
+    }
+
+    // DB 에 저장되는 modifiedAt 의 정밀도(마이크로초)까지 반영
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return UNKNOWN;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkSaveRequest {
+
+    // 각 항목의 유효성 검사는 항목별 결과로 내려주기 위해 서비스에서 따로 진행 (@Valid 미사용)
+    @NotEmpty
+    @Size(max = 1000)
+    private List<TodoSaveRequest> todos;
+}
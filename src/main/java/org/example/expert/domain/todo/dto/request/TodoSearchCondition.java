@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 일정 목록 검색 조건 (weather, 수정일 기간)
+ * page 조회와 cursor 조회가 같은 조건을 사용하기 때문에 날짜 변환 로직을 한곳에 모았습니다.
+ */
+@Getter
+@EqualsAndHashCode   // 동일한 목록 조회 요청을 병합(single-flight)할 때 key로 사용
+public class TodoSearchCondition {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final String weather;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+
+    private TodoSearchCondition(String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        this.weather = weather;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static TodoSearchCondition of(String weather, String searchStartDate, String searchEndDate) {
+        // 입력된 날짜가 비었을 때
+        // 해당값이 null인지 먼저 확인해야함 -> null 처리를 먼저하지 않으면 NullPointException 발생함, null 처리후 다음 프로세스 진행하도록 해야 예외 발생 안함
+        if (searchStartDate == null || searchStartDate.isEmpty()) {
+            searchStartDate = "00010101";
+        }
+        if (searchEndDate == null || searchEndDate.isEmpty()) {
+            searchEndDate = "99991231";
+        }
+
+        // String으로 들어온 날짜 데이터형 변환
+        try {
+            LocalDateTime startDate = LocalDate.parse(searchStartDate, DATE_FORMATTER).atTime(0, 0, 0);
+            LocalDateTime endDate = LocalDate.parse(searchEndDate, DATE_FORMATTER).atTime(23, 59, 59);
+            return new TodoSearchCondition(weather, startDate, endDate);
+        } catch (DateTimeParseException e) {
+            throw InvalidRequestException.withoutStackTrace("검색 날짜는 yyyyMMdd 형식이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final int requested;
+    private final int succeeded;
+    private final int failed;
+    private final List<TodoBulkSaveResult> results;
+
+    public TodoBulkSaveResponse(List<TodoBulkSaveResult> results) {
+        int succeeded = 0;
+        for (TodoBulkSaveResult result : results) {
+            if (result.getStatus() == TodoBulkSaveResult.Status.SUCCESS) {
+                succeeded++;
+            }
+        }
+        this.requested = results.size();
+        this.succeeded = succeeded;
+        this.failed = results.size() - succeeded;
+        this.results = results;
+    }
+}
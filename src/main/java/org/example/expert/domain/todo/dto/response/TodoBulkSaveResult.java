@@ -0,0 +1,31 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkSaveResult {
+
+    public enum Status {
+        SUCCESS, FAILED
+    }
+
+    private final int index;    // 요청 목록에서의 순서
+    private final Long id;
+    private final Status status;
+    private final String message;
+
+    private TodoBulkSaveResult(int index, Long id, Status status, String message) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static TodoBulkSaveResult success(int index, Long id) {
+        return new TodoBulkSaveResult(index, id, Status.SUCCESS, null);
+    }
+
+    public static TodoBulkSaveResult failed(int index, String message) {
+        return new TodoBulkSaveResult(index, null, Status.FAILED, message);
+    }
+}
@@ -1,7 +1,10 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
+import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
 
 import java.time.LocalDateTime;
 
@@ -13,16 +16,45 @@ public class TodoResponse {
     private final String contents;
     private final String weather;
     private final UserResponse user;
+    private final int commentCount;
+    private final int managerCount;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    @JsonIgnore
+    private final LocalDateTime countersModifiedAt;   // 조건부 조회의 Last-Modified 계산용 (응답에는 포함하지 않음)
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, commentCount, managerCount, createdAt, modifiedAt, null);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, int commentCount, int managerCount, LocalDateTime createdAt, LocalDateTime modifiedAt, LocalDateTime countersModifiedAt) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
         this.user = user;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.countersModifiedAt = countersModifiedAt;
+    }
+
+    // 엔티티 -> 응답 DTO 변환 (user 가 로딩되어 있어야 함)
+    public static TodoResponse from(Todo todo) {
+        User user = todo.getUser();
+
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(user.getId(), user.getEmail(), user.getNickname()),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getCountersModifiedAt()
+        );
     }
 }
@@ -7,22 +7,53 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt, id"),  // 목록 조회 정렬 및 keyset 커서 조건용 인덱스
+        @Index(name = "idx_todos_weather_id", columnList = "weather, id")          // 날씨 조건 조회 및 PENDING 일정 sweep(id 순서 keyset)용 인덱스
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * IDENTITY 전략은 INSERT를 실행해야 id를 알 수 있어서 Hibernate가 JDBC batch insert를 사용하지 못합니다.
+     * 시퀀스(시퀀스를 지원하지 않는 MySQL에서는 todos_seq 테이블로 대체) 에서 allocationSize 만큼 id를 미리 할당받는 pooled 방식으로 변경하여
+     * 대량 저장 시 INSERT가 batch로 나가도록 하였습니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq_generator")
+    @SequenceGenerator(name = "todos_seq_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    /**
+     * 목록 화면에서 댓글 수 / 담당자 수를 보여주기 위한 역정규화 카운터
+     * 컬렉션을 로딩하거나 행마다 COUNT 쿼리를 실행하지 않도록, 댓글/담당자가 추가·삭제될 때 UPDATE ... SET count = count + 1 로 함께 갱신합니다.
+     * 값이 어긋난 경우 TodoCounterRepairJob 이 실제 개수로 다시 맞춥니다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int managerCount;
+
+    /**
+     * 카운터가 마지막으로 바뀐 시각 (조건부 조회의 Last-Modified 용)
+     * 카운터 변경으로 modifiedAt 을 바꾸면 날짜 검색 결과와 목록 정렬 순서까지 바뀌므로 따로 기록합니다.
+     */
+    private LocalDateTime countersModifiedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -53,5 +84,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
@@ -1,14 +1,19 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoSearchRepository{
@@ -37,4 +42,60 @@ public interface TodoRepository extends JpaRepository<Todo, Long>, TodoSearchRep
                                               @Param("weather") String weather,
                                               @Param("startDate") LocalDateTime startDate,
                                               @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 비동기 날씨 보강용 UPDATE
+     * 아직 PENDING 상태인 일정만 변경하도록 조건을 걸어서, 중복으로 처리되더라도 같은 결과가 되도록 하였습니다.
+     * 벌크 UPDATE는 Auditing이 동작하지 않으므로 modifiedAt도 직접 변경합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.modifiedAt = :modifiedAt " +
+            "WHERE t.id IN :todoIds AND t.weather = :pendingWeather")
+    int updatePendingWeather(@Param("todoIds") Collection<Long> todoIds,
+                             @Param("weather") String weather,
+                             @Param("pendingWeather") String pendingWeather,
+                             @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 날씨가 weather 인 일정 id 를 afterId 다음부터 id 순서로 조회 (idx_todos_weather_id 범위 조회, 전체 스캔 X)
+     */
+    @Query("SELECT t.id FROM Todo t WHERE t.weather = :weather AND t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsByWeatherAfterId(@Param("weather") String weather, @Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 댓글 수 / 담당자 수 카운터 갱신
+     * 엔티티를 읽어서 +1 한 뒤 저장하면 동시에 요청이 들어왔을 때 갱신이 유실될 수 있으므로, DB에서 한번의 UPDATE로 원자적으로 증가시킵니다.
+     * 카운터가 바뀐 시각(countersModifiedAt)은 Auditing 과 같은 기준이 되도록 DB 시각이 아니라 애플리케이션 시각(now)으로 기록합니다.
+     */
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + 1, t.countersModifiedAt = :now WHERE t.id = :todoId")
+    int increaseCommentCount(@Param("todoId") Long todoId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + 1, t.countersModifiedAt = :now WHERE t.id = :todoId")
+    int increaseManagerCount(@Param("todoId") Long todoId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount - 1, t.countersModifiedAt = :now WHERE t.id = :todoId AND t.managerCount > 0")
+    int decreaseManagerCount(@Param("todoId") Long todoId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    /**
+     * id 범위 단위로 실제 댓글 수 / 담당자 수를 다시 계산 (TodoCounterRepairJob)
+     * 값이 실제로 바뀌는 일정만 countersModifiedAt 을 갱신합니다. (SET 은 앞에서부터 적용되므로 비교는 카운터를 바꾸기 전에 수행)
+     * native 쿼리는 어떤 테이블을 바꾸는지 Hibernate 가 알 수 없어 2차 캐시 전체를 비우므로, 대상 테이블(todos)을 query space 로 알려줍니다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todos"))
+    @Query(nativeQuery = true, value = "UPDATE todos t SET " +
+            "t.counters_modified_at = CASE WHEN " +
+            "t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "OR t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id) " +
+            "THEN :now ELSE t.counters_modified_at END, " +
+            "t.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id), " +
+            "t.manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id) " +
+            "WHERE t.id BETWEEN :fromId AND :toId")
+    int recalculateCounts(@Param("fromId") long fromId, @Param("toId") long toId, @Param("now") LocalDateTime now);
 }
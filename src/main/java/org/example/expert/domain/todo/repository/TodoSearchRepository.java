@@ -1,11 +1,31 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoSearchRepository {
 
     Optional<Todo> findByIdWithUserFromQueryDsl(long todoId);
 
+    Page<TodoResponse> searchTodoResponses(TodoSearchCondition condition, Pageable pageable);
+
+    List<TodoResponse> searchTodoResponsesAfterCursor(TodoSearchCondition condition, TodoCursor cursor, int limit);
+
+    Stream<TodoResponse> streamTodoResponses(TodoSearchCondition condition, int fetchSize, int limit);
+
+    Optional<TodoVersion> findTodoVersion(long todoId);
+
+    TodoVersion searchTodoPageVersion(TodoSearchCondition condition, Pageable pageable);
+
+    TodoVersion searchTodoSliceVersion(TodoSearchCondition condition, TodoCursor cursor, int size);
+
 }
@@ -1,12 +1,30 @@
 package org.example.expert.domain.todo.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.sql.DatabaseMetaData;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 // QueryDSL이 자동 생성해주는 Q 클래스를 이용해 Todo와 User 참조
 import static org.example.expert.domain.todo.entity.QTodo.todo;
@@ -17,8 +35,24 @@ import static org.example.expert.domain.user.entity.QUser.user;
 @RequiredArgsConstructor
 public class TodoSearchRepositoryImpl implements TodoSearchRepository {
 
+    // 목록 조회 시 엔티티를 거치지 않고 바로 응답 DTO로 매핑하기 위한 프로젝션
+    private static final ConstructorExpression<TodoResponse> TODO_RESPONSE = Projections.constructor(
+            TodoResponse.class,
+            todo.id,
+            todo.title,
+            todo.contents,
+            todo.weather,
+            Projections.constructor(UserResponse.class, user.id, user.email, user.nickname),
+            todo.commentCount,
+            todo.managerCount,
+            todo.createdAt,
+            todo.modifiedAt,
+            todo.countersModifiedAt
+    );
+
     // JPAQueryFactory 생성자 주입 : JPAQueryFactory는 QueryDSL에서 쿼리를 생성하는 팩토리 클래스
     private final JPAQueryFactory q;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Todo> findByIdWithUserFromQueryDsl(long todoId) {
@@ -32,7 +66,197 @@ public class TodoSearchRepositoryImpl implements TodoSearchRepository {
         return Optional.ofNullable(getTodo);    // 조회된 결과가 null일 수도 있으므로 Optional로 감싸서 처리
     }
 
+    /**
+     * 목록 조회용 프로젝션 쿼리
+     * 엔티티 대신 TodoResponse / UserResponse 생성자로 바로 조회하기 때문에 영속성 컨텍스트에 엔티티가 올라가지 않고(더티 체킹 X),
+     * user를 JOIN 으로 함께 가져와서 페이지 크기와 상관없이 내용 조회 1번 + count 조회 1번으로 끝납니다. (N+1 X)
+     */
+    @Override
+    public Page<TodoResponse> searchTodoResponses(TodoSearchCondition condition, Pageable pageable) {
+        List<TodoResponse> contents = q
+                .select(TODO_RESPONSE)
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition)
+                )
+                .orderBy(todo.modifiedAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // count 쿼리는 user 정보가 필요 없으므로 JOIN 없이 실행
+        JPAQuery<Long> countQuery = q
+                .select(todo.count())
+                .from(todo)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition)
+                );
+
+        // 첫 페이지의 결과가 페이지 크기보다 작거나 마지막 페이지인 경우 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * keyset(seek) 방식 조회
+     * OFFSET 없이 (modifiedAt, id) 기준으로 커서 이후의 행만 읽기 때문에 뒤쪽 페이지로 갈수록 느려지는 문제가 없습니다.
+     * 다음 페이지 존재 여부는 호출하는 쪽에서 limit을 size + 1로 넘겨 판단하고, COUNT 쿼리는 실행하지 않습니다.
+     */
+    @Override
+    public List<TodoResponse> searchTodoResponsesAfterCursor(TodoSearchCondition condition, TodoCursor cursor, int limit) {
+        return q
+                .select(TODO_RESPONSE)
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition),
+                        afterCursor(cursor)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())  // 커서 비교 조건과 같은 순서로 정렬해야 누락/중복이 없음
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 내보내기(export)용 스트리밍 조회 (최대 limit 건)
+     * 결과 전체를 List로 만들지 않고 JDBC ResultSet을 앞으로만 읽으면서 한 행씩 TodoResponse로 변환합니다.
+     * 프로젝션 조회라 영속성 컨텍스트에 엔티티가 쌓이지 않으므로 행 수와 관계없이 메모리 사용량이 일정합니다.
+     * 반환된 Stream은 트랜잭션 안에서 사용하고 반드시 close 해야 합니다.
+     */
+    @Override
+    public Stream<TodoResponse> streamTodoResponses(TodoSearchCondition condition, int fetchSize, int limit) {
+        return q
+                .select(TODO_RESPONSE)
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(limit)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize(fetchSize))
+                .stream();
+    }
+
+    /**
+     * MySQL(Connector/J)은 JDBC URL에 useCursorFetch=true 가 없으면 fetchSize 를 무시하고 결과 전체를 메모리에 읽습니다.
+     * 이 경우 fetchSize 를 Integer.MIN_VALUE 로 주어 한 행씩 스트리밍하도록 합니다. (그 외 DB는 fetchSize 단위로 나누어 가져옴)
+     */
+    private int streamingFetchSize(int fetchSize) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean mysql = metaData.getDriverName().startsWith("MySQL");
+            boolean cursorFetch = metaData.getURL().contains("useCursorFetch=true");
+            return mysql && !cursorFetch ? Integer.MIN_VALUE : fetchSize;
+        });
+    }
+
+    /**
+     * 조건부 조회용 버전 조회 : 버전에 필요한 컬럼만 읽습니다. (user JOIN / 엔티티 / 응답 DTO 생성 X)
+     */
+    @Override
+    public Optional<TodoVersion> findTodoVersion(long todoId) {
+        Tuple result = q
+                .select(todo.id, todo.modifiedAt, todo.countersModifiedAt, todo.commentCount, todo.managerCount)
+                .from(todo)
+                .where(todoIdEq(todoId))
+                .fetchOne();
+        return Optional.ofNullable(result).map(TodoSearchRepositoryImpl::toVersion);
+    }
+
+    /**
+     * page 목록의 버전 : 목록 조회와 같은 조건 / 정렬 / OFFSET 으로 버전 컬럼만 읽고,
+     * 전체 개수도 목록 조회와 같은 규칙(PageableExecutionUtils)으로 구해서 응답 본문으로 만든 ETag 와 같은 값이 나오도록 합니다.
+     */
+    @Override
+    public TodoVersion searchTodoPageVersion(TodoSearchCondition condition, Pageable pageable) {
+        List<TodoVersion> items = q
+                .select(todo.id, todo.modifiedAt, todo.countersModifiedAt, todo.commentCount, todo.managerCount)
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition)
+                )
+                .orderBy(todo.modifiedAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(TodoSearchRepositoryImpl::toVersion)
+                .toList();
+
+        JPAQuery<Long> countQuery = q
+                .select(todo.count())
+                .from(todo)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition)
+                );
+
+        long totalElements = PageableExecutionUtils.getPage(items, pageable, countQuery::fetchOne).getTotalElements();
+        return TodoVersion.ofPage(items, totalElements);
+    }
+
+    /**
+     * cursor 목록의 버전 : 커서 조회와 같이 size + 1건의 버전 컬럼만 읽어서 다음 페이지 여부를 판단합니다. (COUNT 쿼리 X)
+     */
+    @Override
+    public TodoVersion searchTodoSliceVersion(TodoSearchCondition condition, TodoCursor cursor, int size) {
+        List<TodoVersion> items = q
+                .select(todo.id, todo.modifiedAt, todo.countersModifiedAt, todo.commentCount, todo.managerCount)
+                .from(todo)
+                .join(todo.user, user)
+                .where(
+                        weatherEq(condition.getWeather()),
+                        modifiedAtBetween(condition),
+                        afterCursor(cursor)
+                )
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(size + 1)
+                .fetch()
+                .stream()
+                .map(TodoSearchRepositoryImpl::toVersion)
+                .toList();
+
+        boolean hasNext = items.size() > size;
+        return TodoVersion.ofSlice(hasNext ? items.subList(0, size) : items, hasNext);
+    }
+
+    private static TodoVersion toVersion(Tuple tuple) {
+        Integer commentCount = tuple.get(todo.commentCount);
+        Integer managerCount = tuple.get(todo.managerCount);
+        return TodoVersion.of(
+                tuple.get(todo.id),
+                tuple.get(todo.modifiedAt),
+                tuple.get(todo.countersModifiedAt),
+                commentCount != null ? commentCount : 0,
+                managerCount != null ? managerCount : 0
+        );
+    }
+
     private BooleanExpression todoIdEq(Long todoId) {
         return todoId != null ? todo.id.eq(todoId) : null;
     }
+
+    private BooleanExpression weatherEq(String weather) {
+        return weather != null ? todo.weather.eq(weather) : null;
+    }
+
+    private BooleanExpression modifiedAtBetween(TodoSearchCondition condition) {
+        return todo.modifiedAt.between(condition.getStartDate(), condition.getEndDate());
+    }
+
+    // (modifiedAt, id) < (cursor.modifiedAt, cursor.id)
+    private BooleanExpression afterCursor(TodoCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return todo.modifiedAt.lt(cursor.getModifiedAt())
+                .or(todo.modifiedAt.eq(cursor.getModifiedAt()).and(todo.id.lt(cursor.getId())));
+    }
 }
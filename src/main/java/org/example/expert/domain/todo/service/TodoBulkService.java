@@ -0,0 +1,116 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResult;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 대량 저장
+ * - 요청 목록을 CHUNK_SIZE 단위로 나누어 chunk 마다 별도의 트랜잭션으로 커밋합니다. (한 chunk가 실패해도 앞서 커밋된 chunk는 유지)
+ * - Todo / Manager id를 pooled 시퀀스로 미리 할당받기 때문에 INSERT가 JDBC batch 로 나갑니다.
+ * - 항목별 성공/실패 결과를 요청 순서(index) 기준으로 내려줍니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoBulkService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<TodoSaveRequest> items = todoBulkSaveRequest.getTodos();
+        TodoBulkSaveResult[] results = new TodoBulkSaveResult[items.size()];
+
+        // 유효하지 않은 항목은 저장하지 않고 실패 결과로 처리
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            String violation = validate(items.get(i));
+            if (violation == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = TodoBulkSaveResult.failed(i, violation);
+            }
+        }
+
+        // 날씨는 요청 전체에 대해 한번만 조회
+        boolean enrichLater = todoWeatherEnricher.isEnabled();
+        String weather = enrichLater ? TodoWeatherEnricher.PENDING_WEATHER : weatherClient.getTodayWeather();
+
+        for (int from = 0; from < validIndexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + CHUNK_SIZE, validIndexes.size()));
+            try {
+                List<Todo> savedTodos = transactionTemplate.execute(status -> saveChunk(chunk, items, weather, user));
+                for (int i = 0; i < chunk.size(); i++) {
+                    Long todoId = savedTodos.get(i).getId();
+                    results[chunk.get(i)] = TodoBulkSaveResult.success(chunk.get(i), todoId);
+                    if (enrichLater) {
+                        todoWeatherEnricher.enqueueAfterCommit(todoId);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("일정 대량 저장 중 chunk 저장에 실패했습니다. index: {} ~ {}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+                for (Integer index : chunk) {
+                    results[index] = TodoBulkSaveResult.failed(index, "저장에 실패했습니다.");
+                }
+            }
+        }
+
+        return new TodoBulkSaveResponse(Arrays.asList(results));
+    }
+
+    private List<Todo> saveChunk(List<Integer> chunk, List<TodoSaveRequest> items, String weather, User user) {
+        List<Todo> todos = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            TodoSaveRequest item = items.get(index);
+            todos.add(new Todo(item.getTitle(), item.getContents(), weather, user));
+        }
+
+        List<Todo> savedTodos = todoRepository.saveAll(todos);
+
+        // open-in-view 로 요청 전체가 하나의 영속성 컨텍스트를 공유하므로, chunk 마다 비워서 메모리가 쌓이지 않게 함
+        entityManager.flush();
+        entityManager.clear();
+        return savedTodos;
+    }
+
+    private String validate(TodoSaveRequest item) {
+        if (item == null) {
+            return "일정 정보가 비어있습니다.";
+        }
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
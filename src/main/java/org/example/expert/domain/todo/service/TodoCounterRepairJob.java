@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정의 댓글 수 / 담당자 수 카운터 보정 작업
+ * 카운터는 댓글/담당자 변경 시 함께 갱신되지만, 서비스를 거치지 않은 변경(직접 SQL, 일정 삭제 시 cascade 등)으로 어긋날 수 있으므로
+ * 주기적으로 실제 개수를 다시 계산합니다. 한번에 전체 테이블을 잠그지 않도록 id 범위(CHUNK_SIZE) 단위로 나누어 각각 커밋합니다.
+ * (todo.counter-repair.cron 을 "-" 로 설정하면 실행하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterRepairJob {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoResponseCache todoResponseCache;
+
+    @Scheduled(cron = "${todo.counter-repair.cron:0 0 4 * * *}")
+    public void repair() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long updated = 0;
+        for (long from = 1; from <= maxId; from += CHUNK_SIZE) {
+            long fromId = from;
+            long toId = from + CHUNK_SIZE - 1;
+            Integer count = transactionTemplate.execute(status -> todoRepository.recalculateCounts(fromId, toId, now));
+            updated += count != null ? count : 0;
+        }
+
+        todoResponseCache.evictAll();
+        log.info("일정 카운터 보정 완료 - 대상 일정 수: {}", updated);
+    }
+}
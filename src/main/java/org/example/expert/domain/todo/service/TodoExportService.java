@@ -0,0 +1,168 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 분석용 일정 내보내기
+ * DB 커서에서 읽은 행을 바로 응답 스트림에 쓰기 때문에 전체 결과를 메모리에 올리지 않습니다.
+ * 내보내는 동안 트랜잭션이 DB 커넥션을 잡고 있으므로 한번에 내보낼 수 있는 행 수(maxRows)와 시간(timeout)을 제한합니다.
+ * 한도를 넘으면 나머지를 버리고 정상 응답으로 끝내는 대신 예외로 응답을 중단합니다. (잘린 파일을 전체 결과로 오해하지 않도록)
+ */
+@Service
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "id,title,contents,weather,userId,userEmail,userNickname,commentCount,managerCount,createdAt,modifiedAt";
+    private static final int FLUSH_INTERVAL = 1000;     // 일정 행 수마다 클라이언트로 내보냄
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String format) {
+            for (Format value : values()) {
+                if (value.name().equalsIgnoreCase(format)) {
+                    return value;
+                }
+            }
+            throw InvalidRequestException.withoutStackTrace("지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+        }
+    }
+
+    private final TodoRepository todoRepository;
+    private final ObjectWriter todoWriter;
+    private final int fetchSize;
+    private final int maxRows;
+    private final Duration timeout;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:500}") int fetchSize,
+            @Value("${todo.export.max-rows:100000}") int maxRows,
+            @Value("${todo.export.timeout:PT2M}") Duration timeout
+    ) {
+        this.todoRepository = todoRepository;
+        // 일정마다 응답 스트림을 닫거나 flush 하지 않도록 (flush 는 FLUSH_INTERVAL 마다 직접 함)
+        this.todoWriter = objectMapper.writerFor(TodoResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+        this.maxRows = maxRows;
+        this.timeout = timeout;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(TodoSearchCondition condition, Format format, OutputStream outputStream) throws IOException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // 한 건 더 조회해서 한도를 넘는지 확인
+        try (Stream<TodoResponse> todos = todoRepository.streamTodoResponses(condition, fetchSize, maxRows + 1)) {
+            Iterator<TodoResponse> iterator = todos.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                if (count == maxRows) {
+                    throw InvalidRequestException.withoutStackTrace("내보낼 일정이 " + maxRows + "건을 넘습니다. 기간이나 날씨 조건으로 나누어 요청해주세요.");
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    throw ServiceUnavailableException.withoutStackTrace("내보내기 시간(" + timeout.toSeconds() + "초)을 초과했습니다. 기간이나 날씨 조건으로 나누어 요청해주세요.");
+                }
+
+                TodoResponse todo = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, todo);
+                } else {
+                    todoWriter.writeValue(writer, todo);
+                    writer.write('\n');
+                }
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, TodoResponse todo) throws IOException {
+        writer.write(String.valueOf(todo.getId()));
+        writer.write(',');
+        writer.write(escapeCsv(todo.getTitle()));
+        writer.write(',');
+        writer.write(escapeCsv(todo.getContents()));
+        writer.write(',');
+        writer.write(escapeCsv(todo.getWeather()));
+        writer.write(',');
+        writer.write(String.valueOf(todo.getUser().getId()));
+        writer.write(',');
+        writer.write(escapeCsv(todo.getUser().getEmail()));
+        writer.write(',');
+        writer.write(escapeCsv(todo.getUser().getNickname()));
+        writer.write(',');
+        writer.write(String.valueOf(todo.getCommentCount()));
+        writer.write(',');
+        writer.write(String.valueOf(todo.getManagerCount()));
+        writer.write(',');
+        writer.write(String.valueOf(todo.getCreatedAt()));
+        writer.write(',');
+        writer.write(String.valueOf(todo.getModifiedAt()));
+        writer.write('\n');
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부의 큰따옴표는 두번 씀 (RFC 4180)
+    // =, +, -, @, 탭, CR 로 시작하는 값은 스프레드시트에서 수식으로 실행되지 않도록 앞에 ' 를 붙임 (CSV injection)
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
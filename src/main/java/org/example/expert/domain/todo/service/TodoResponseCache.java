@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 단건 조회(GET /todos/{todoId}) 응답 캐시
+ * Caffeine(W-TinyLFU)으로 최대 개수와 TTL을 제한하고, 적중/실패 통계를 기록합니다.
+ * 일정 응답에 영향을 주는 변경이 있으면 evict 를 호출해야 합니다.
+ * 트랜잭션 안에서 호출되면 즉시 한번, 커밋 이후에 한번 더 지워서 커밋 전에 다시 캐시된 이전 값이 남지 않도록 합니다.
+ *
+ * 커밋 전에 DB 조회를 시작한 요청이 지운 뒤에 이전 값을 넣는 경우도 막기 위해, 지울 때마다 증가하는 번호(generation)를 일정별로 기록하고
+ * 조회 시작 전에 받은 번호(loadToken)보다 나중에 지워진 일정은 캐시에 넣지 않습니다.
+ * 캐시에 이미 있는 값보다 수정 시각(modifiedAt / countersModifiedAt)이 이전인 응답도 넣지 않습니다.
+ */
+@Component
+public class TodoResponseCache {
+
+    private final Cache<Long, TodoResponse> cache;
+    private final Cache<Long, Long> evictedGenerations;     // 일정별 마지막으로 지운 번호 (캐시와 같은 TTL, 조회 중에 지워졌는지 확인하는 동안만 필요)
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long evictedAllGeneration;
+
+    public TodoResponseCache(
+            @Value("${todo.cache.maximum-size:10000}") long maximumSize,
+            @Value("${todo.cache.expire-after-write:PT5M}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.evictedGenerations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public TodoResponse get(long todoId) {
+        return cache.getIfPresent(todoId);
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 받아 두었다가 put 에 넘기는 번호
+     */
+    public long loadToken() {
+        return generation.get();
+    }
+
+    public void put(long todoId, TodoResponse todoResponse) {
+        put(todoId, loadToken(), todoResponse);
+    }
+
+    /**
+     * loadToken 을 받은 뒤에 지워진 일정이거나, 캐시에 더 최신 응답이 있으면 넣지 않음
+     */
+    public void put(long todoId, long loadToken, TodoResponse todoResponse) {
+        cache.asMap().compute(todoId, (id, current) -> {
+            Long evictedGeneration = evictedGenerations.getIfPresent(id);
+            if (evictedAllGeneration > loadToken || (evictedGeneration != null && evictedGeneration > loadToken)) {
+                return current;
+            }
+            if (current != null && isOlder(todoResponse, current)) {
+                return current;
+            }
+            return todoResponse;
+        });
+    }
+
+    public void evict(Long todoId) {
+        invalidate(todoId);
+        runAfterCommit(() -> invalidate(todoId));
+    }
+
+    public void evictAll(Collection<Long> todoIds) {
+        todoIds.forEach(this::invalidate);
+        runAfterCommit(() -> todoIds.forEach(this::invalidate));
+    }
+
+    // 여러 일정의 응답이 한번에 바뀌는 경우 (카운터 보정 등)
+    public void evictAll() {
+        invalidateAll();
+        runAfterCommit(this::invalidateAll);
+    }
+
+    // 캐시 hit / miss / eviction 지표 (MetricsConfig), Caffeine 인스턴스는 밖으로 노출하지 않음
+    public MeterBinder cacheMetrics(String cacheName) {
+        return new CaffeineCacheMetrics<>(cache, cacheName, Tags.empty());
+    }
+
+    // 번호 기록과 삭제를 같은 일정의 put 과 겹치지 않게 한번에 처리
+    private void invalidate(Long todoId) {
+        cache.asMap().compute(todoId, (id, current) -> {
+            evictedGenerations.put(id, generation.incrementAndGet());
+            return null;
+        });
+    }
+
+    private void invalidateAll() {
+        evictedAllGeneration = generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static boolean isOlder(TodoResponse todoResponse, TodoResponse current) {
+        return isBefore(todoResponse.getModifiedAt(), current.getModifiedAt())
+                || isBefore(todoResponse.getCountersModifiedAt(), current.getCountersModifiedAt());
+    }
+
+    private static boolean isBefore(LocalDateTime value, LocalDateTime other) {
+        return value != null && other != null && value.isBefore(other);
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
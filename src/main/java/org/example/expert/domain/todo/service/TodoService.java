@@ -2,34 +2,52 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
     private final ManagerRepository managerRepository;  // todo가 저장, 업데이트, 삭제 될때 manager 조회를 고려한 repository 생성자 주입
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoResponseCache todoResponseCache;
+    @Qualifier("readOnlyTransactionTemplate")
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    @Qualifier("primaryReadTransactionTemplate")
+    private final TransactionTemplate primaryReadTransactionTemplate;
+    private final SingleFlight<Long, TodoResponse> todoSingleFlight;
+    private final SingleFlight<List<Object>, PageResponse<TodoResponse>> todoPageSingleFlight;
+    private final SingleFlight<List<Object>, SliceResponse<TodoResponse>> todoSliceSingleFlight;
 
     /**
      * [Level1] 1. 코드 개선 퀴즈 - @Transactional의 이해
@@ -44,7 +62,9 @@ public class TodoService {
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 비동기 보강 모드에서는 날씨를 기다리지 않고 PENDING 으로 먼저 저장
+        boolean enrichLater = todoWeatherEnricher.isEnabled();
+        String weather = enrichLater ? TodoWeatherEnricher.PENDING_WEATHER : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -54,6 +74,10 @@ public class TodoService {
         );
         Todo savedTodo = todoRepository.save(newTodo);
 
+        if (enrichLater) {
+            todoWeatherEnricher.enqueueAfterCommit(savedTodo.getId());
+        }
+
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
@@ -63,51 +87,123 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size, String  weather, String searchStartDate, String searchEndDate) {
+    /**
+     * 목록 조회는 QueryDSL 프로젝션 쿼리로 TodoResponse를 바로 조회합니다.
+     * 엔티티를 조회한 뒤 todo.getUser()로 유저를 꺼내면 LAZY 로딩 때문에 페이지 크기만큼 쿼리가 추가로 나가는 N+1 문제가 있었습니다.
+     *
+     * 조회 메서드들은 트랜잭션 없이(NOT_SUPPORTED) 시작해서, 같은 조건의 동시 요청을 하나로 합친 뒤(single-flight)
+     * 실제로 DB를 조회하는 한 요청만 읽기 전용 트랜잭션을 엽니다. 기다리는 요청들이 커넥션을 붙잡고 있지 않도록 하기 위함입니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PageResponse<TodoResponse> getTodos(int page, int size, String  weather, String searchStartDate, String searchEndDate) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        // 입력된 날짜가 비었을 때
-        // 해당값이 null인지 먼저 확인해야함 -> null 처리를 먼저하지 않으면 NullPointException 발생함, null 처리후 다음 프로세스 진행하도록 해야 예외 발생 안함
-        if(searchStartDate == null || searchStartDate.isEmpty()){
-            searchStartDate = "00010101";
+        TodoSearchCondition condition = TodoSearchCondition.of(weather, searchStartDate, searchEndDate);
+
+        return todoPageSingleFlight.execute(
+                Arrays.asList(condition, page, size),
+                () -> readOnlyTransactionTemplate.execute(status -> PageResponse.from(todoRepository.searchTodoResponses(condition, pageable)))
+        );
+    }
+
+    /**
+     * 커서 기반(keyset) 일정 목록 조회
+     * page 방식과 달리 OFFSET 스캔과 COUNT 쿼리가 없어서 데이터가 많아도 뒤쪽 페이지 조회 비용이 일정합니다.
+     * size + 1건을 조회해서 남는 1건으로 다음 페이지 존재 여부를 판단합니다. (Slice 방식)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SliceResponse<TodoResponse> getTodosByCursor(String cursor, int size, String weather, String searchStartDate, String searchEndDate) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw InvalidRequestException.withoutStackTrace("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
         }
-        if(searchEndDate == null || searchEndDate.isEmpty()){
-            searchEndDate = "99991231";
+
+        TodoSearchCondition condition = TodoSearchCondition.of(weather, searchStartDate, searchEndDate);
+        TodoCursor after = TodoCursor.decode(cursor);
+
+        return todoSliceSingleFlight.execute(
+                Arrays.asList(condition, cursor, size),
+                () -> readOnlyTransactionTemplate.execute(status -> loadTodosAfterCursor(condition, after, size))
+        );
+    }
+
+    /**
+     * 캐시에 채울 응답은 primary 에서 조회합니다.
+     * 변경 직후 캐시가 비워진 상태에서 복제가 늦은 replica 의 이전 값을 읽어 캐시에 다시 넣으면, 만료될 때까지 이전 값을 응답하게 되기 때문입니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponse getTodo(long todoId) {
+        TodoResponse cached = todoResponseCache.get(todoId);
+        if (cached != null) {
+            return cached;
         }
 
+        return todoSingleFlight.execute(todoId, () -> {
+            long loadToken = todoResponseCache.loadToken();     // 조회하는 동안 변경되어 캐시가 지워지면 이 응답은 캐시에 넣지 않음
+            TodoResponse todoResponse = primaryReadTransactionTemplate.execute(status -> loadTodo(todoId));
+            todoResponseCache.put(todoId, loadToken, todoResponse);
+            return todoResponse;
+        });
+    }
 
-        // String으로 들어온 날짜 데이터형 변환
-        LocalDateTime startDate = LocalDate.parse(searchStartDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(0,0,0);
-        LocalDateTime endDate = LocalDate.parse(searchEndDate, DateTimeFormatter.ofPattern("yyyyMMdd")).atTime(23,59,59);
+    /**
+     * 조건부 조회용 일정 버전 : 캐시에 응답이 있으면 그 값으로, 없으면 버전 컬럼만 조회합니다. (user JOIN / 응답 DTO 생성 X)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoVersion getTodoVersion(long todoId) {
+        TodoResponse cached = todoResponseCache.get(todoId);
+        if (cached != null) {
+            return TodoVersion.from(cached);
+        }
 
+        return readOnlyTransactionTemplate.execute(status -> todoRepository.findTodoVersion(todoId))
+                .orElseThrow(() -> InvalidRequestException.withoutStackTrace("Todo not found"));
+    }
 
-        Page<Todo> todos = todoRepository.findAllByWeatherAndBetweenDate(pageable, weather, startDate, endDate);
+    /**
+     * 조건부 조회용 목록 버전 : 목록 조회와 같은 범위의 버전 컬럼만 조회합니다.
+     * 결과는 응답 본문으로 만든 ETag(TodoVersion.ofPage / ofSlice)와 같은 값이므로 조건부 요청에서만 호출합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoVersion getTodoPageVersion(int page, int size, String weather, String searchStartDate, String searchEndDate) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        TodoSearchCondition condition = TodoSearchCondition.of(weather, searchStartDate, searchEndDate);
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail(), todo.getUser().getNickname()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return readOnlyTransactionTemplate.execute(status -> todoRepository.searchTodoPageVersion(condition, pageable));
     }
 
-    public TodoResponse getTodo(long todoId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoVersion getTodoSliceVersion(String cursor, int size, String weather, String searchStartDate, String searchEndDate) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw InvalidRequestException.withoutStackTrace("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        TodoSearchCondition condition = TodoSearchCondition.of(weather, searchStartDate, searchEndDate);
+        TodoCursor after = TodoCursor.decode(cursor);
+
+        return readOnlyTransactionTemplate.execute(status -> todoRepository.searchTodoSliceVersion(condition, after, size));
+    }
+
+    private SliceResponse<TodoResponse> loadTodosAfterCursor(TodoSearchCondition condition, TodoCursor after, int size) {
+        List<TodoResponse> contents = todoRepository.searchTodoResponsesAfterCursor(condition, after, size + 1);
+
+        boolean hasNext = contents.size() > size;
+        if (hasNext) {
+            contents = contents.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = contents.get(contents.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new SliceResponse<>(contents, nextCursor, hasNext);
+    }
+
+    private TodoResponse loadTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUserFromQueryDsl(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail(), user.getNickname()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+                .orElseThrow(() -> InvalidRequestException.withoutStackTrace("Todo not found"));
+
+        return TodoResponse.from(todo);
     }
 }
@@ -0,0 +1,184 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정의 날씨를 저장 이후에 비동기로 채워주는 컴포넌트
+ * 일정은 PENDING_WEATHER 로 먼저 저장하고, 커밋이 끝난 뒤 일정 id를 큐에 넣습니다.
+ * 워커 스레드는 큐에 쌓인 id를 batchSize 만큼 모아서 날씨를 한번만 조회하고, UPDATE ... WHERE id IN (...) 한번으로 반영합니다.
+ * 큐가 가득 차서 넣지 못한 일정은 PENDING 으로 남겨 두고, sweepInterval 마다 다시 찾아서 큐에 넣습니다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    public static final String PENDING_WEATHER = "Pending";
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoResponseCache todoResponseCache;
+    private final TodoWeatherEnrichmentProperties properties;
+    private final BlockingQueue<Long> queue;
+    private final ExecutorService workers;
+    private final AtomicLong sweepCursor = new AtomicLong();   // 마지막 sweep 에서 다시 넣은 마지막 일정 id
+
+    private volatile boolean running = true;
+
+    public TodoWeatherEnricher(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TransactionTemplate transactionTemplate,
+            TodoResponseCache todoResponseCache,
+            TodoWeatherEnrichmentProperties properties
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        // 워커 / 종료 처리에서만 사용하지만, 호출하는 쪽에 트랜잭션이 남아 있더라도 항상 새 트랜잭션으로 UPDATE 하도록 REQUIRES_NEW 로 분리
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.todoResponseCache = todoResponseCache;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "todo-weather-enricher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::drainLoop);
+        }
+    }
+
+    /**
+     * 재시작 등으로 큐에서 사라진 일정이 PENDING 상태로 남지 않도록, 기동 시점에 남아있는 일정을 다시 큐에 넣습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void enqueueLeftovers() {
+        sweepPending();
+    }
+
+    /**
+     * 큐가 가득 차서 넣지 못했거나 처리에 실패해 PENDING 으로 남은 일정을 큐의 남은 자리만큼 다시 넣습니다.
+     * 이미 큐에 들어 있는 일정이 다시 들어가더라도 UPDATE 조건(weather = PENDING) 때문에 결과는 같습니다.
+     *
+     * (weather, id) 인덱스를 id 순서로 이어서 읽고(keyset), 마지막 id 를 기억해 다음 sweep 은 그 다음부터 조회합니다.
+     * 처리에 계속 실패하는 일정이 앞쪽에 남아 있어도 뒤쪽 일정이 밀리지 않고, 끝까지 조회하면 다음 sweep 은 처음부터 다시 조회합니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.weather-enrichment.sweep-interval:PT1M}")
+    public void sweepPending() {
+        int capacity = queue.remainingCapacity();
+        if (!isEnabled() || capacity == 0) {
+            return;
+        }
+        List<Long> pendingIds = todoRepository.findIdsByWeatherAfterId(PENDING_WEATHER, sweepCursor.get(), PageRequest.of(0, capacity));
+        pendingIds.forEach(this::enqueue);
+        sweepCursor.set(pendingIds.size() < capacity ? 0 : pendingIds.get(pendingIds.size() - 1));
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋된 이후에 큐에 넣습니다. (롤백되면 넣지 않음)
+     * afterCommit 에서 예외가 나가면 이미 커밋된 요청이 실패로 응답되므로, 여기서는 큐에 넣기만 하고 예외를 던지지 않습니다.
+     */
+    public void enqueueAfterCommit(Long todoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(todoId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(todoId);
+            }
+        });
+    }
+
+    private void enqueue(Long todoId) {
+        if (!queue.offer(todoId)) {
+            // 요청 스레드에서 처리하지 않고 PENDING 으로 남겨 두면 sweepPending 이 다시 큐에 넣음
+            log.warn("날씨 보강 큐가 가득 찼습니다. 다음 sweep 에서 처리합니다. todoId: {}", todoId);
+        }
+    }
+
+    private void drainLoop() {
+        List<Long> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                enrich(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("일정 날씨 보강에 실패했습니다. todoIds: {}", batch, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void enrich(List<Long> todoIds) {
+        String weather = weatherClient.getTodayWeather();   // 배치 전체에 대해 한번만 조회
+        transactionTemplate.executeWithoutResult(status -> {
+            todoRepository.updatePendingWeather(todoIds, weather, PENDING_WEATHER, LocalDateTime.now());
+            todoResponseCache.evictAll(List.copyOf(todoIds));
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+
+        // 종료 전에 큐에 남은 일정 처리
+        List<Long> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += properties.getBatchSize()) {
+            enrich(remaining.subList(from, Math.min(from + properties.getBatchSize(), remaining.size())));
+        }
+    }
+}
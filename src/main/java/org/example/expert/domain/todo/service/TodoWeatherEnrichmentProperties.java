@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 일정 저장 후 날씨를 비동기로 채우는 기능 설정 (todo.weather-enrichment.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "todo.weather-enrichment")
+public class TodoWeatherEnrichmentProperties {
+
+    private boolean enabled = false;    // false면 기존처럼 저장 전에 날씨를 조회
+    private int queueCapacity = 10_000;
+    private int workers = 2;
+    private int batchSize = 100;        // UPDATE 한번에 처리하는 최대 일정 수
+    private Duration sweepInterval = Duration.ofMinutes(1);  // 큐에 넣지 못해 PENDING 으로 남은 일정을 다시 찾는 주기
+}
@@ -1,10 +1,18 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.request.UserBulkSaveRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserBulkSaveResponse;
+import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserBulkService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,9 +21,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserBulkService userBulkService;
 
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    @Secured(UserRole.Authority.ADMIN)
+    @PostMapping("/admin/users/bulk")
+    public ResponseEntity<UserBulkSaveResponse> saveUsers(@Valid @RequestBody UserBulkSaveRequest userBulkSaveRequest) {
+        return ResponseEntity.ok(userBulkService.saveUsers(userBulkSaveRequest));
+    }
 }
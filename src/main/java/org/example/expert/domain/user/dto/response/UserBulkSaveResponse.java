@@ -0,0 +1,27 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserBulkSaveResponse {
+
+    private final int requested;
+    private final int succeeded;
+    private final int failed;
+    private final List<UserBulkSaveResult> results;
+
+    public UserBulkSaveResponse(List<UserBulkSaveResult> results) {
+        int succeeded = 0;
+        for (UserBulkSaveResult result : results) {
+            if (result.getStatus() == UserBulkSaveResult.Status.SUCCESS) {
+                succeeded++;
+            }
+        }
+        this.requested = results.size();
+        this.succeeded = succeeded;
+        this.failed = results.size() - succeeded;
+        this.results = results;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserBulkSaveResult {
+
+    public enum Status {
+        SUCCESS, FAILED
+    }
+
+    private final int index;    // 요청 목록에서의 순서
+    private final Long id;
+    private final String email;
+    private final Status status;
+    private final String message;
+
+    private UserBulkSaveResult(int index, Long id, String email, Status status, String message) {
+        this.index = index;
+        this.id = id;
+        this.email = email;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static UserBulkSaveResult success(int index, Long id, String email) {
+        return new UserBulkSaveResult(index, id, email, Status.SUCCESS, null);
+    }
+
+    public static UserBulkSaveResult failed(int index, String email, String message) {
+        return new UserBulkSaveResult(index, null, email, Status.FAILED, message);
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+
+    // 이메일(natural id)로 조회, 2차 캐시에 있으면 DB를 조회하지 않음
+    Optional<User> loadByEmail(String email);
+}
@@ -0,0 +1,27 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * findByEmail 같은 JPQL 조회는 2차 캐시를 거치지 않으므로,
+ * Hibernate 의 natural id 조회(bySimpleNaturalId)를 사용하여 email -> id -> 엔티티 순서로 캐시를 먼저 확인합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> loadByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -17,7 +17,7 @@ public class UserAdminService {
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
+        User user = userRepository.findById(userId).orElseThrow(() -> InvalidRequestException.withoutStackTrace("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
     }
 }
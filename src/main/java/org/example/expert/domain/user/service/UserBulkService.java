@@ -0,0 +1,143 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.user.dto.request.UserBulkSaveRequest;
+import org.example.expert.domain.user.dto.response.UserBulkSaveResponse;
+import org.example.expert.domain.user.dto.response.UserBulkSaveResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserBulkRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자용 유저 대량 등록
+ * - 요청 목록을 CHUNK_SIZE 단위로 나누어 chunk 마다 이메일 중복을 IN 쿼리 한번으로 확인합니다.
+ * - 비밀번호 해시는 PasswordHasher 의 대량 등록용 스레드 풀에서 병렬로 계산합니다.
+ * - INSERT 는 JDBC batch 로 실행하고 chunk 마다 별도의 트랜잭션으로 커밋합니다. (한 chunk가 실패해도 앞서 커밋된 chunk는 유지)
+ * - 항목별 성공/실패 결과를 요청 순서(index) 기준으로 내려줍니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final UserBulkRepository userBulkRepository;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    public UserBulkSaveResponse saveUsers(UserBulkSaveRequest userBulkSaveRequest) {
+        List<SignupRequest> items = userBulkSaveRequest.getUsers();
+        UserBulkSaveResult[] results = new UserBulkSaveResult[items.size()];
+
+        // 유효하지 않은 항목과 요청 안에서 중복된 이메일은 저장하지 않고 실패 결과로 처리
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        Set<String> requestedEmails = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            SignupRequest item = items.get(i);
+            String violation = validate(item);
+            if (violation != null) {
+                results[i] = UserBulkSaveResult.failed(i, item != null ? item.getEmail() : null, violation);
+            } else if (!requestedEmails.add(normalize(item.getEmail()))) {
+                results[i] = UserBulkSaveResult.failed(i, item.getEmail(), "요청 안에 중복된 이메일입니다.");
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        for (int from = 0; from < validIndexes.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + CHUNK_SIZE, validIndexes.size()));
+            try {
+                saveChunk(chunk, items, results);
+            } catch (RuntimeException e) {
+                log.error("유저 대량 등록 중 chunk 저장에 실패했습니다. index: {} ~ {}", chunk.get(0), chunk.get(chunk.size() - 1), e);
+                for (Integer index : chunk) {
+                    if (results[index] == null) {
+                        results[index] = UserBulkSaveResult.failed(index, items.get(index).getEmail(), "저장에 실패했습니다.");
+                    }
+                }
+            }
+        }
+
+        return new UserBulkSaveResponse(Arrays.asList(results));
+    }
+
+    private void saveChunk(List<Integer> chunk, List<SignupRequest> items, UserBulkSaveResult[] results) {
+        // 이미 가입된 이메일 확인 (chunk 당 쿼리 1번)
+        List<String> emails = chunk.stream().map(index -> items.get(index).getEmail()).toList();
+        Set<String> existingEmails = userRepository.findEmailsByEmailIn(emails).stream()
+                .map(UserBulkService::normalize)
+                .collect(Collectors.toSet());
+
+        List<Integer> targets = new ArrayList<>(chunk.size());
+        for (Integer index : chunk) {
+            String email = items.get(index).getEmail();
+            if (existingEmails.contains(normalize(email))) {
+                results[index] = UserBulkSaveResult.failed(index, email, "이미 존재하는 이메일입니다.");
+            } else {
+                targets.add(index);
+            }
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        // 해시 계산은 트랜잭션 밖에서 (DB 커넥션을 잡지 않은 상태로) 진행
+        List<String> encodedPasswords = passwordHasher.encodeAll(
+                targets.stream().map(index -> items.get(index).getPassword()).toList());
+
+        List<User> users = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            SignupRequest item = items.get(targets.get(i));
+            users.add(new User(item.getEmail(), encodedPasswords.get(i), UserRole.of(item.getUserRole()), item.getNickname()));
+        }
+
+        List<Long> ids = transactionTemplate.execute(status -> userBulkRepository.insertAll(users));
+        for (int i = 0; i < targets.size(); i++) {
+            Integer index = targets.get(i);
+            results[index] = UserBulkSaveResult.success(index, ids.get(i), items.get(index).getEmail());
+        }
+    }
+
+    private String validate(SignupRequest item) {
+        if (item == null) {
+            return "유저 정보가 비어있습니다.";
+        }
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        try {
+            UserRole.of(item.getUserRole());
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    // MySQL 의 기본 collation 은 대소문자를 구분하지 않으므로 이메일 비교도 같은 기준으로 맞춤
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
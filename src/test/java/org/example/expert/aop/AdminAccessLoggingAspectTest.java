@@ -0,0 +1,132 @@
+package org.example.expert.aop;
+
+import org.example.expert.config.JwtAuthenticationToken;
+import org.example.expert.domain.audit.controller.AuditLogAdminController;
+import org.example.expert.domain.audit.service.AuditEvent;
+import org.example.expert.domain.audit.service.AuditLogService;
+import org.example.expert.domain.audit.service.AuditLogWriter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.controller.UserAdminController;
+import org.example.expert.domain.user.dto.request.UserBulkSaveRequest;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserBulkService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig(AdminAccessLoggingAspectTest.TestConfig.class)
+class AdminAccessLoggingAspectTest {
+
+    @Autowired
+    private UserAdminController userAdminController;
+
+    @Autowired
+    private AuditLogAdminController auditLogAdminController;
+
+    @MockBean
+    private AuditLogWriter auditLogWriter;
+
+    @MockBean
+    private UserAdminService userAdminService;
+
+    @MockBean
+    private UserBulkService userBulkService;
+
+    @MockBean
+    private AuditLogService auditLogService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 관리자_API_호출을_호출한_관리자와_함께_기록한다() {
+        // given
+        authenticate(new AuthUser(1L, "admin@test.com", UserRole.ROLE_ADMIN, "admin"));
+
+        // when
+        userAdminController.saveUsers(new UserBulkSaveRequest());
+
+        // then
+        AuditEvent event = capturedEvent();
+        assertThat(event.getActorId()).isEqualTo(1L);
+        assertThat(event.getActorEmail()).isEqualTo("admin@test.com");
+        assertThat(event.getAction()).isEqualTo("UserAdminController.saveUsers");
+        assertThat(event.getHttpMethod()).isEqualTo("POST");
+        assertThat(event.getRequestUri()).isEqualTo("/admin/users/bulk");
+        assertThat(event.isSuccess()).isTrue();
+    }
+
+    @Test
+    void 권한이_없어_거부된_호출도_기록한다() {
+        // given
+        authenticate(new AuthUser(2L, "user@test.com", UserRole.ROLE_USER, "user"));
+
+        // when
+        assertThatThrownBy(() -> userAdminController.saveUsers(new UserBulkSaveRequest()))
+                .isInstanceOf(AccessDeniedException.class);
+
+        // then : @Order(0) 로 @Secured 검사보다 바깥에서 실행되어 거부도 기록됨
+        AuditEvent event = capturedEvent();
+        assertThat(event.getActorId()).isEqualTo(2L);
+        assertThat(event.isSuccess()).isFalse();
+        assertThat(event.getErrorMessage()).isNotBlank();
+        verify(userBulkService, never()).saveUsers(any());
+    }
+
+    @Test
+    void 기록_조회_API_호출도_열람한_관리자와_함께_기록한다() {
+        // given
+        authenticate(new AuthUser(1L, "admin@test.com", UserRole.ROLE_ADMIN, "admin"));
+
+        // when
+        auditLogAdminController.getAuditLogs(null, null, null, 20);
+
+        // then
+        AuditEvent event = capturedEvent();
+        assertThat(event.getActorId()).isEqualTo(1L);
+        assertThat(event.getAction()).isEqualTo("AuditLogAdminController.getAuditLogs");
+        assertThat(event.isSuccess()).isTrue();
+    }
+
+    private static void authenticate(AuthUser authUser) {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(authUser));
+    }
+
+    private AuditEvent capturedEvent() {
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLogWriter).enqueue(captor.capture());
+        return captor.getValue();
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    @EnableMethodSecurity(securedEnabled = true)
+    @Import({AdminAccessLoggingAspect.class, UserAdminController.class, AuditLogAdminController.class})
+    static class TestConfig {
+
+        @Bean
+        MockHttpServletRequest request() {
+            return new MockHttpServletRequest("POST", "/admin/users/bulk");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherClientTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile String body = "[]";
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 외부 날씨 API 대신 사용하는 로컬 stub 서버
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 날씨_데이터는_한번만_불러오고_이후에는_메모리에서_조회한다() {
+        // given
+        body = weatherJson("Sunny");
+        WeatherClient weatherClient = newClient(Duration.ofHours(1));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(first).isEqualTo("Sunny");
+        assertThat(second).isEqualTo("Sunny");
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 갱신_주기가_지나면_기존_값을_응답하고_백그라운드에서_갱신한다() throws InterruptedException {
+        // given
+        body = weatherJson("Sunny");
+        WeatherClient weatherClient = newClient(Duration.ZERO);
+        weatherClient.getTodayWeather();
+        body = weatherJson("Rainy");
+
+        // when
+        String stale = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(stale).isEqualTo("Sunny");
+        for (int i = 0; i < 50 && !"Rainy".equals(weatherClient.getTodayWeather()); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(weatherClient.getTodayWeather()).isEqualTo("Rainy");
+    }
+
+    @Test
+    void 오늘_날씨가_없으면_Unknown을_반환한다() {
+        // given
+        body = "[{\"date\":\"13-32\",\"weather\":\"Sunny\"}]";
+        WeatherClient weatherClient = newClient(Duration.ofHours(1));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo(WeatherClient.UNKNOWN_WEATHER);
+    }
+
+    @Test
+    void 외부_API가_연속으로_실패하면_circuit이_열리고_더이상_호출하지_않는다() {
+        // given
+        status = 500;
+        WeatherClient weatherClient = newClient(Duration.ofHours(1));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(weatherClient.getTodayWeather()).isEqualTo(WeatherClient.UNKNOWN_WEATHER);
+        }
+
+        // then
+        assertThat(weatherClient.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(requestCount.get()).isEqualTo(3);    // failureThreshold 만큼만 호출
+    }
+
+    private WeatherClient newClient(Duration refreshInterval) {
+        WeatherProperties properties = new WeatherProperties();
+        properties.getApi().setUrl("http://localhost:" + server.getAddress().getPort() + "/weather.json");
+        properties.getCache().setRefreshInterval(refreshInterval);
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        return new WeatherClient(new RestTemplateBuilder(), properties, new SimpleMeterRegistry());
+    }
+
+    private String weatherJson(String weather) {
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        return "[{\"date\":\"" + today + "\",\"weather\":\"" + weather + "\"}]";
+    }
+}
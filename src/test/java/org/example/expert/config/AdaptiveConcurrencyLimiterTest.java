@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+
+    @Test
+    void 한도만큼_처리_중이면_다음_요청은_바로_거절한다() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", new ConcurrencyLimitProperties.Limit(2, 1, 10), properties);
+
+        // when
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 응답_시간이_늘어나면_한도를_줄인다() {
+        // given : 대기 없는 응답 시간 10ms
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", new ConcurrencyLimitProperties.Limit(20, 1, 100), properties);
+        fillAndRelease(limiter, 10);
+
+        // when : 한도를 다 쓰는 동안 응답 시간이 50ms 로 늘어남
+        for (int i = 0; i < 20; i++) {
+            fillAndRelease(limiter, 50);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isLessThan(20);
+    }
+
+    @Test
+    void 응답_시간이_그대로면_한도를_늘린다() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("write", new ConcurrencyLimitProperties.Limit(20, 1, 100), properties);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            fillAndRelease(limiter, 10);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    private static void fillAndRelease(AdaptiveConcurrencyLimiter limiter, long rttMillis) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        }
+    }
+}
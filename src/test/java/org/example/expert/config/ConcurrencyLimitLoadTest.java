@@ -0,0 +1,228 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과부하 시 goodput(제한 시간 안에 성공한 요청 수) 비교 부하 테스트 (./gradlew loadTest)
+ *
+ * 서버 모델 : 요청 스레드 200개(Tomcat 기본값), 커넥션 10개짜리 풀(대기 최대 1초)
+ * 조회 요청은 처리 시간이 다른 두 API 가 섞여 들어옵니다. (단건 조회 5ms 70%, 목록 조회 40ms 30% → 평균 15.5ms)
+ * → 처리 가능한 양은 초당 약 645건. 처리량의 0.8배 / 2배 / 4배로 요청을 보내면서
+ * 300ms 안에 200 으로 응답한 요청만 goodput 으로 셉니다. (처음 1초는 limiter 가 적응하는 구간이라 제외)
+ * 변경 요청(일정 / 댓글 / 담당자 등록, 10ms)을 함께 보내는 경우에는 조회 요청이 넘치는 동안에도 변경 요청이 제 시간에 처리되는지 확인합니다.
+ *
+ * limiter 가 없으면 요청이 스레드 풀과 커넥션 풀 앞에 쌓여 모든 요청이 제한 시간을 넘기고 goodput 이 무너지지만,
+ * limiter 가 있으면 넘치는 요청은 바로 503 으로 거절되고 받아들인 요청은 제 시간에 처리되어 goodput 이 유지됩니다.
+ */
+@Tag("load")
+class ConcurrencyLimitLoadTest {
+
+    private static final int SERVER_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final long POOL_TIMEOUT_MILLIS = 1000;
+    private static final long DETAIL_SERVICE_TIME_MILLIS = 5;
+    private static final long LIST_SERVICE_TIME_MILLIS = 40;
+    private static final long WRITE_SERVICE_TIME_MILLIS = 10;
+    private static final int LIST_PERCENT = 30;
+    private static final double MEAN_SERVICE_TIME_MILLIS =
+            (DETAIL_SERVICE_TIME_MILLIS * (100 - LIST_PERCENT) + LIST_SERVICE_TIME_MILLIS * LIST_PERCENT) / 100.0;
+    private static final int CAPACITY_PER_SECOND = (int) (POOL_SIZE * 1000 / MEAN_SERVICE_TIME_MILLIS);
+
+    private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long WARM_UP_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long DEADLINE_NANOS = TimeUnit.MILLISECONDS.toNanos(300);
+
+    // 실제 컨트롤러에 매핑된 경로 패턴 (ConcurrencyLimitConfig 가 RequestMappingHandlerMapping 에서 읽는 값)
+    private static final List<String> ROUTES = List.of(
+            "GET /todos",
+            "GET /todos/{todoId}",
+            "POST /todos",
+            "POST /todos/{todoId}/comments",
+            "POST /todos/{todoId}/managers"
+    );
+    private static final String[] WRITE_URIS = {"/todos", "/todos/1/comments", "/todos/1/managers"};
+
+    @Test
+    void 과부하에서도_goodput_이_처리량_수준으로_유지된다() throws Exception {
+        // given
+        int normalRate = CAPACITY_PER_SECOND * 8 / 10;
+        int overloadRate = CAPACITY_PER_SECOND * 2;
+        int heavyOverloadRate = CAPACITY_PER_SECOND * 4;
+
+        // when
+        Stats normal = run(normalRate, 0, true).reads();
+        Stats overload = run(overloadRate, 0, true).reads();
+        Stats heavyOverload = run(heavyOverloadRate, 0, true).reads();
+        Stats heavyOverloadWithoutLimiter = run(heavyOverloadRate, 0, false).reads();
+
+        // then
+        printHeader();
+        print("0.8x, limiter", normal);
+        print("2x, limiter", overload);
+        print("4x, limiter", heavyOverload);
+        print("4x, no limiter", heavyOverloadWithoutLimiter);
+
+        assertThat(overload.goodput()).isGreaterThanOrEqualTo(normal.goodput() * 0.8);
+        assertThat(heavyOverload.goodput()).isGreaterThanOrEqualTo(normal.goodput() * 0.8);
+        assertThat(heavyOverloadWithoutLimiter.goodput()).isLessThan(normal.goodput() * 0.2);  // limiter 가 없으면 goodput 이 무너짐
+    }
+
+    @Test
+    void 조회_요청이_넘쳐도_변경_요청은_제_시간에_처리된다() throws Exception {
+        // given : 조회는 처리량의 4배, 변경은 처리량의 10%
+        int readRate = CAPACITY_PER_SECOND * 4;
+        int writeRate = CAPACITY_PER_SECOND / 10;
+
+        // when
+        Result limited = run(readRate, writeRate, true);
+        Result unlimited = run(readRate, writeRate, false);
+
+        // then
+        printHeader();
+        print("reads 4x, limiter", limited.reads());
+        print("writes, limiter", limited.writes());
+        print("reads 4x, no limiter", unlimited.reads());
+        print("writes, no limiter", unlimited.writes());
+
+        // 조회는 전체 한도에서 거절되지만, 변경 요청용으로 남겨 둔 자리 덕분에 변경 요청은 거의 모두 제 시간에 처리됨
+        assertThat(limited.reads().shed()).isGreaterThan(0);
+        assertThat(limited.writes().goodput()).isGreaterThanOrEqualTo(writeRate * 0.9);
+        assertThat(unlimited.writes().goodput()).isLessThan(writeRate * 0.2);
+    }
+
+    private Result run(int readRate, int writeRate, boolean limited) throws InterruptedException {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setEnabled(limited);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                new ConcurrencyLimiterRegistry(properties, new SimpleMeterRegistry(), ROUTES, POOL_SIZE * properties.getGlobalLimitPerConnection()),
+                properties.isEnabled()
+        );
+
+        Semaphore connectionPool = new Semaphore(POOL_SIZE, true);
+        FilterChain backend = (request, response) -> handle(
+                connectionPool,
+                serviceTimeMillis((HttpServletRequest) request),
+                (HttpServletResponse) response
+        );
+
+        ExecutorService serverThreads = Executors.newFixedThreadPool(SERVER_THREADS);
+        Counters reads = new Counters();
+        Counters writes = new Counters();
+
+        // 응답을 기다리지 않고 일정한 간격으로 요청을 보냄 (open-loop), 변경 요청은 writeRate 비율만큼 고르게 섞음
+        int totalRate = readRate + writeRate;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / totalRate;
+        long startedAt = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long scheduledAt = startedAt + i * intervalNanos;
+            if (scheduledAt - startedAt >= DURATION_NANOS) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < scheduledAt) {
+                LockSupport.parkNanos(scheduledAt - now);
+            }
+            boolean measured = scheduledAt - startedAt >= WARM_UP_NANOS;
+            boolean write = (i + 1) * writeRate / totalRate > i * writeRate / totalRate;
+            MockHttpServletRequest request = write
+                    ? new MockHttpServletRequest("POST", WRITE_URIS[(int) (i % WRITE_URIS.length)])
+                    : new MockHttpServletRequest("GET", i % 10 < LIST_PERCENT / 10 ? "/todos" : "/todos/" + (i % 1000 + 1));    // 목록 조회를 10건 중 3건씩 고르게 섞음
+            Counters counters = write ? writes : reads;
+
+            serverThreads.execute(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                try {
+                    filter.doFilter(request, response, backend);
+                } catch (Exception e) {
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
+                if (!measured) {
+                    return;
+                }
+                if (response.getStatus() == HttpServletResponse.SC_SERVICE_UNAVAILABLE) {
+                    counters.shed.incrementAndGet();
+                } else if (response.getStatus() == HttpServletResponse.SC_OK && System.nanoTime() - scheduledAt <= DEADLINE_NANOS) {
+                    counters.succeeded.incrementAndGet();
+                } else {
+                    counters.late.incrementAndGet();
+                }
+            });
+        }
+
+        // 제한 시간을 한참 넘긴 대기 요청은 결과에 영향이 없으므로 기다리지 않음
+        serverThreads.shutdown();
+        if (!serverThreads.awaitTermination(3, TimeUnit.SECONDS)) {
+            serverThreads.shutdownNow();
+            serverThreads.awaitTermination(3, TimeUnit.SECONDS);
+        }
+
+        return new Result(reads.toStats(readRate), writes.toStats(writeRate));
+    }
+
+    private static long serviceTimeMillis(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) {
+            return WRITE_SERVICE_TIME_MILLIS;
+        }
+        return request.getRequestURI().equals("/todos") ? LIST_SERVICE_TIME_MILLIS : DETAIL_SERVICE_TIME_MILLIS;
+    }
+
+    private static void handle(Semaphore connectionPool, long serviceTimeMillis, HttpServletResponse response) {
+        try {
+            if (!connectionPool.tryAcquire(POOL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                return;
+            }
+            try {
+                Thread.sleep(serviceTimeMillis);
+                response.setStatus(HttpServletResponse.SC_OK);
+            } finally {
+                connectionPool.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static void printHeader() {
+        System.out.printf("%-28s %10s %10s %10s %10s%n", "scenario", "offered/s", "goodput/s", "shed/s", "late/s");
+    }
+
+    private static void print(String scenario, Stats stats) {
+        System.out.printf("%-28s %10d %10.0f %10.0f %10.0f%n", scenario, stats.offered(), stats.goodput(), stats.shed(), stats.late());
+    }
+
+    private static class Counters {
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong shed = new AtomicLong();
+        private final AtomicLong late = new AtomicLong();
+
+        private Stats toStats(int offered) {
+            double measuredSeconds = (double) (DURATION_NANOS - WARM_UP_NANOS) / TimeUnit.SECONDS.toNanos(1);
+            return new Stats(offered, succeeded.get() / measuredSeconds, shed.get() / measuredSeconds, late.get() / measuredSeconds);
+        }
+    }
+
+    private record Stats(int offered, double goodput, double shed, double late) {
+    }
+
+    private record Result(Stats reads, Stats writes) {
+    }
+}
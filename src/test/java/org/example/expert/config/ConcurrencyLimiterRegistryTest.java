@@ -0,0 +1,119 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimiterRegistryTest {
+
+    private static final List<String> ROUTES = List.of(
+            "GET /todos",
+            "GET /todos/{todoId}",
+            "GET /todos/export",
+            "POST /todos",
+            "POST /todos/{todoId}/comments"
+    );
+
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+
+    @Test
+    void 같은_경로는_id_가_달라도_같은_limiter_를_사용한다() {
+        // given
+        ConcurrencyLimiterRegistry registry = registry(20);
+
+        // when
+        ConcurrencyLimiterRegistry.Route first = registry.route("GET", "/todos/1");
+        ConcurrencyLimiterRegistry.Route second = registry.route("GET", "/todos/2");
+        ConcurrencyLimiterRegistry.Route list = registry.route("GET", "/todos");
+        ConcurrencyLimiterRegistry.Route save = registry.route("POST", "/todos/1/comments");
+
+        // then
+        assertThat(first.limiter()).isSameAs(second.limiter());
+        assertThat(first.limiter().getName()).isEqualTo("GET /todos/{todoId}");
+        assertThat(list.limiter()).isNotSameAs(first.limiter());
+        assertThat(registry.route("GET", "/todos/export").limiter().getName()).isEqualTo("GET /todos/export");
+        assertThat(save.limiter().getLimit()).isEqualTo(properties.getWrite().getInitialLimit());
+    }
+
+    @Test
+    void 응답_시간이_다른_경로가_섞여도_한도가_줄지_않는다() {
+        // given : 단건 조회 2ms, 목록 조회 100ms (대기 없이 처리되는 경우)
+        ConcurrencyLimiterRegistry registry = registry(20);
+        AdaptiveConcurrencyLimiter fast = registry.route("GET", "/todos/1").limiter();
+        AdaptiveConcurrencyLimiter slow = registry.route("GET", "/todos").limiter();
+        AdaptiveConcurrencyLimiter shared = new AdaptiveConcurrencyLimiter("read", properties.getRead(), properties);
+        int initialLimit = properties.getRead().getInitialLimit();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            fillAndRelease(fast, 2);
+            fillAndRelease(slow, 100);
+            fillAndRelease(shared, 2, 100);
+        }
+
+        // then : 경로별 limiter 는 한도를 유지하지만, 하나의 limiter 에 섞으면 느린 응답을 과부하로 보고 한도를 줄임
+        assertThat(fast.getLimit()).isGreaterThanOrEqualTo(initialLimit);
+        assertThat(slow.getLimit()).isGreaterThanOrEqualTo(initialLimit);
+        assertThat(shared.getLimit()).isLessThan(initialLimit);
+    }
+
+    @Test
+    void 매핑되지_않은_경로는_limiter_를_새로_만들지_않고_공용_limiter_를_사용한다() {
+        // given
+        ConcurrencyLimiterRegistry registry = registry(20);
+
+        // when
+        ConcurrencyLimiterRegistry.Route first = registry.route("GET", "/unknown-1");
+        ConcurrencyLimiterRegistry.Route second = registry.route("GET", "/wp-admin/" + 12345);
+        ConcurrencyLimiterRegistry.Route write = registry.route("DELETE", "/todos");
+
+        // then
+        assertThat(first.limiter()).isSameAs(second.limiter());
+        assertThat(first.limiter().getName()).isEqualTo("other");
+        assertThat(first.read()).isTrue();
+        assertThat(write.read()).isFalse();
+    }
+
+    @Test
+    void 전체_한도를_조회_요청이_채워도_변경_요청용_자리는_남아_있다() {
+        // given : 전체 10 중 변경 요청용 2 (writeReserveRatio 0.2)
+        ConcurrencyLimiterRegistry registry = registry(10);
+        ConcurrencyLimiterRegistry.Route read = registry.route("GET", "/todos");
+        ConcurrencyLimiterRegistry.Route write = registry.route("POST", "/todos");
+
+        // when
+        int acquiredReads = 0;
+        while (registry.tryAcquireGlobal(read)) {
+            acquiredReads++;
+        }
+
+        // then
+        assertThat(acquiredReads).isEqualTo(8);
+        assertThat(registry.tryAcquireGlobal(write)).isTrue();
+        assertThat(registry.tryAcquireGlobal(write)).isTrue();
+        assertThat(registry.tryAcquireGlobal(write)).isFalse();
+
+        registry.releaseGlobal();
+        assertThat(registry.tryAcquireGlobal(read)).isFalse();     // 반납된 자리도 변경 요청용 몫이면 조회는 사용할 수 없음
+        assertThat(registry.getGlobal().getInFlight()).isEqualTo(9);
+    }
+
+    private ConcurrencyLimiterRegistry registry(int globalLimit) {
+        return new ConcurrencyLimiterRegistry(properties, new SimpleMeterRegistry(), ROUTES, globalLimit);
+    }
+
+    // 한도만큼 요청을 받은 뒤 응답 시간을 번갈아 가며 반납
+    private static void fillAndRelease(AdaptiveConcurrencyLimiter limiter, long... rttMillis) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis[i % rttMillis.length]));
+        }
+    }
+}
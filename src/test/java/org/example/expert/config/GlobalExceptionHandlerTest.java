@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void 스택_트레이스_없는_예외는_호출_스택을_기록하지_않는다() {
+        // when
+        InvalidRequestException ex = InvalidRequestException.withoutStackTrace("Todo not found");
+
+        // then
+        assertThat(ex.getMessage()).isEqualTo("Todo not found");
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(new InvalidRequestException("Todo not found").getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void 같은_상태와_메시지의_에러_본문은_재사용한다() {
+        // when
+        ResponseEntity<Map<String, Object>> first = handler.invalidRequestExceptionException(InvalidRequestException.withoutStackTrace("Todo not found"));
+        ResponseEntity<Map<String, Object>> second = handler.invalidRequestExceptionException(new InvalidRequestException("Todo not found"));
+
+        // then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(first.getBody())
+                .containsEntry("status", HttpStatus.BAD_REQUEST.name())
+                .containsEntry("code", HttpStatus.BAD_REQUEST.value())
+                .containsEntry("message", "Todo not found");
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThatThrownBy(() -> first.getBody().put("message", "changed")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
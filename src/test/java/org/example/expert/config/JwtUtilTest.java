@@ -0,0 +1,113 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+    private static final byte[] SECRET = new byte[32];
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil();
+    }
+
+    @Test
+    void 캐시된_claims_는_새로_파싱한_claims_와_같다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@test.com", UserRole.ROLE_ADMIN, "nickname"));
+
+        // when
+        Claims first = jwtUtil.extractClaims(token);
+        Claims cached = jwtUtil.extractClaims(token);
+        Claims fresh = newJwtUtil().extractClaims(token);
+
+        // then
+        assertThat(cached).isSameAs(first);
+        assertThat(cached).isEqualTo(fresh);
+        assertThat(cached.getSubject()).isEqualTo("1");
+        assertThat(cached.get("userRole", String.class)).isEqualTo(UserRole.ROLE_ADMIN.name());
+        assertThat(jwtUtil.getClaimsCache().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 변조된_토큰은_원본이_캐시되어_있어도_통과하지_못한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@test.com", UserRole.ROLE_USER, "nickname"));
+        jwtUtil.extractClaims(token);
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"2\",\"userRole\":\"ROLE_ADMIN\"}".getBytes());
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.extractClaims(tampered)).isInstanceOf(JwtException.class);
+        assertThat(jwtUtil.getClaimsCache().estimatedSize()).isEqualTo(1);     // 검증에 실패한 토큰은 캐시하지 않음
+    }
+
+    @Test
+    void 만료_시각이_지나면_캐시에서도_제거되어_만료_예외가_발생한다() throws InterruptedException {
+        // given : 곧 만료되는 토큰을 한번 검증해서 캐시에 저장 (exp 는 초 단위로 잘림)
+        Date expiration = new Date(System.currentTimeMillis() + 2000);
+        String token = token(expiration);
+        jwtUtil.extractClaims(token);
+
+        // when
+        long untilExpired = jwtUtil.extractClaims(token).getExpiration().getTime() - System.currentTimeMillis();
+        Thread.sleep(Math.max(0, untilExpired) + 100);
+
+        // then
+        assertThatThrownBy(() -> jwtUtil.extractClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void 캐시_유효_시간은_토큰의_남은_유효_시간이다() {
+        // given
+        JwtUtil.ClaimsExpiry expiry = new JwtUtil.ClaimsExpiry();
+        Claims valid = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10)));
+        Claims expired = Jwts.claims().setExpiration(new Date(System.currentTimeMillis() - 1000));
+
+        // when
+        long validNanos = expiry.expireAfterCreate("key", valid, System.nanoTime());
+        long expiredNanos = expiry.expireAfterCreate("key", expired, System.nanoTime());
+
+        // then
+        assertThat(validNanos).isBetween(TimeUnit.MINUTES.toNanos(9), TimeUnit.MINUTES.toNanos(10));
+        assertThat(expiredNanos).isZero();
+        assertThat(expiry.expireAfterRead("key", valid, 0, validNanos)).isEqualTo(validNanos);     // 조회해도 늘어나지 않음
+    }
+
+    private static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(SECRET));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaximumSize", 100L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private static String token(Date expiration) {
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("userRole", UserRole.ROLE_USER)
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        if (passwordHasher != null) {
+            passwordHasher.shutdown();
+        }
+    }
+
+    @Test
+    void 설정된_cost_와_다른_해시는_다시_해시해야_한다() {
+        // given
+        PasswordHashingProperties properties = properties(1, 1);
+        properties.setStrength(12);
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), properties, meterRegistry);
+
+        // when
+        String encoded = passwordHasher.encode("Password1");
+
+        // then
+        assertThat(passwordHasher.matches("Password1", encoded)).isTrue();
+        assertThat(passwordHasher.needsRehash(encoded)).isTrue();
+        assertThat(passwordHasher.needsRehash(new BCryptPasswordEncoder(12).encode("Password1"))).isFalse();
+    }
+
+    @Test
+    void 대기열이_가득_차면_기다리지_않고_503_예외가_발생한다() throws Exception {
+        // given : 스레드 1개 + 대기열 1개, 첫 작업이 끝나지 않도록 막아둠
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordHasher = new PasswordHasher(blockingEncoder, properties(1, 1), meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("running"));
+        started.await();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("queued"));
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get()).isNotBlank();
+        assertThat(queued.get()).isNotBlank();
+    }
+
+    @Test
+    void 대량_해시는_구간_수와_관계없이_bulkTimeout_하나로_끝나고_남은_작업을_취소한다() throws InterruptedException {
+        // given : 4개 구간 모두 끝나지 않는 상태, 대량 해시 전체 제한 시간은 200ms
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(4);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHashingProperties properties = properties(1, 1);
+        properties.setBulkWorkers(4);
+        properties.setTimeout(Duration.ofSeconds(10));
+        properties.setBulkTimeout(Duration.ofMillis(200));
+        passwordHasher = new PasswordHasher(blockingEncoder, properties, meterRegistry);
+
+        // when
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> passwordHasher.encodeAll(List.of("a", "b", "c", "d")))
+                .isInstanceOf(ServiceUnavailableException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then : 구간마다 새로 기다렸다면 200ms x 4, 해시 한번의 제한 시간(timeout)과는 무관
+        assertThat(elapsedMillis).isLessThan(600);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    private static PasswordHashingProperties properties(int workers, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(4);
+        properties.setWorkers(workers);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+}
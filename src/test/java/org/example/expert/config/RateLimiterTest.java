@@ -0,0 +1,60 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private final RateLimiter rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+    @Test
+    void capacity_만큼은_한번에_허용하고_이후에는_회복_시간만큼_기다려야_한다() {
+        // given : 최대 3번, 초당 1번 회복
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(3, 1);
+
+        // when
+        long first = rateLimiter.tryAcquire("user:1", limit);
+        long second = rateLimiter.tryAcquire("user:1", limit);
+        long third = rateLimiter.tryAcquire("user:1", limit);
+        long fourth = rateLimiter.tryAcquire("user:1", limit);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(fourth).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void key_별로_따로_제한한다() {
+        // given
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(1, 1);
+        rateLimiter.tryAcquire("user:1", limit);
+
+        // when
+        long otherUser = rateLimiter.tryAcquire("user:2", limit);
+
+        // then
+        assertThat(otherUser).isZero();
+        assertThat(rateLimiter.tryAcquire("user:1", limit)).isPositive();
+    }
+
+    @Test
+    void 오래_사용하지_않은_bucket_은_제거된다() {
+        // given
+        properties.setIdleTimeout(Duration.ZERO);
+        rateLimiter.tryAcquire("user:1", new RateLimitProperties.Limit(100, 1000));
+
+        // when
+        rateLimiter.evictIdleBuckets();
+
+        // then
+        assertThat(rateLimiter.size()).isZero();
+    }
+}
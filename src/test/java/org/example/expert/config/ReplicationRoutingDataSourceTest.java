@@ -0,0 +1,172 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicationRoutingDataSource routingDataSource;
+    private final CountDownLatch hang = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        hang.countDown();
+        if (routingDataSource != null) {
+            routingDataSource.destroy();
+        }
+    }
+
+    @Test
+    void readOnly_트랜잭션은_replica_로_보낸다() {
+        // given
+        DataSource dataSource = routingDataSource(List.of(h2("replica_a")), null);
+
+        // when
+        String database = currentDatabase(dataSource, true);
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("replica_a");
+    }
+
+    @Test
+    void 쓰기_트랜잭션과_트랜잭션_밖의_조회는_primary_로_보낸다() {
+        // given
+        DataSource dataSource = routingDataSource(List.of(h2("replica_a")), null);
+
+        // when
+        String inWriteTransaction = currentDatabase(dataSource, false);
+        String withoutTransaction = new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class);
+
+        // then
+        assertThat(inWriteTransaction).isEqualToIgnoringCase("primary_db");
+        assertThat(withoutTransaction).isEqualToIgnoringCase("primary_db");
+    }
+
+    @Test
+    void replica_가_여러개면_번갈아가며_읽는다() {
+        // given
+        DataSource dataSource = routingDataSource(List.of(h2("replica_a"), h2("replica_b")), null);
+
+        // when
+        String first = currentDatabase(dataSource, true);
+        String second = currentDatabase(dataSource, true);
+
+        // then
+        assertThat(List.of(first.toLowerCase(), second.toLowerCase()))
+                .containsExactlyInAnyOrder("replica_a", "replica_b");
+    }
+
+    @Test
+    void 접속할_수_없는_replica_는_제외하고_남은_replica_가_없으면_primary_로_읽는다() {
+        // given : 존재하지 않는 DB 에만 접속하도록 설정 (IFEXISTS=TRUE)
+        DataSource broken = new DriverManagerDataSource("jdbc:h2:mem:missing_replica;IFEXISTS=TRUE", "sa", "");
+        DataSource dataSource = routingDataSource(List.of(broken), null);
+
+        // when
+        String database = currentDatabase(dataSource, true);
+
+        // then
+        assertThat(routingDataSource.getHealthyReplicaKeys()).isEmpty();
+        assertThat(database).isEqualToIgnoringCase("primary_db");
+    }
+
+    @Test
+    void 복제_지연이_허용치를_넘으면_primary_로_읽는다() {
+        // given : 복제 지연 10초 (허용치 5초)
+        DataSource dataSource = routingDataSource(List.of(h2("replica_a")), "SELECT 10");
+
+        // when
+        String database = currentDatabase(dataSource, true);
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("primary_db");
+    }
+
+    @Test
+    void primary_read_이름의_readOnly_트랜잭션은_primary_로_보낸다() {
+        // given
+        DataSource dataSource = routingDataSource(List.of(h2("replica_a")), null);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setName(ReplicationRoutingDataSource.PRIMARY_READ_TRANSACTION_NAME);
+
+        // when
+        String database = transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+
+        // then
+        assertThat(database).isEqualToIgnoringCase("primary_db");
+    }
+
+    @Test
+    void 커넥션을_얻지_못하고_멈춘_replica_는_validationTimeout_안에_제외되고_기동을_지연시키지_않는다() {
+        // given : 커넥션 요청이 끝나지 않는 replica (풀이 고갈되었거나 네트워크가 끊긴 경우)
+        DataSource hanging = new DriverManagerDataSource("jdbc:h2:mem:hanging_replica;DB_CLOSE_DELAY=-1", "sa", "") {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    hang.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException(e);
+                }
+                return super.getConnection();
+            }
+        };
+        routingDataSource = new ReplicationRoutingDataSource(
+                h2("primary_db"), List.of(hanging, h2("replica_b")), Duration.ZERO, Duration.ofMillis(500), null, Duration.ofSeconds(5));
+
+        // when : 첫 점검은 백그라운드에서 실행
+        long startedAt = System.nanoTime();
+        routingDataSource.afterPropertiesSet();
+        long startupMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        startedAt = System.nanoTime();
+        routingDataSource.refreshReplicaHealth();
+        long refreshMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(startupMillis).isLessThan(500);
+        assertThat(refreshMillis).isLessThan(1500);
+        assertThat(routingDataSource.getHealthyReplicaKeys()).containsExactly("replica-1");
+    }
+
+    private DataSource routingDataSource(List<DataSource> replicas, String lagQuery) {
+        routingDataSource = new ReplicationRoutingDataSource(
+                h2("primary_db"),
+                replicas,
+                Duration.ZERO,
+                Duration.ofSeconds(1),
+                lagQuery,
+                Duration.ofSeconds(5)
+        );
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.refreshReplicaHealth();     // 첫 점검은 백그라운드에서 실행되므로 결과를 기다림
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private String currentDatabase(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.audit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class AuditLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuditLogProperties properties = new AuditLogProperties();
+
+    private AuditLogWriter auditLogWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (auditLogWriter != null) {
+            auditLogWriter.shutdown();
+        }
+    }
+
+    @Test
+    void batchSize_만큼_모이면_flushInterval_을_기다리지_않고_한번에_저장한다() throws InterruptedException {
+        // given
+        properties.setBatchSize(3);
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        auditLogWriter = startedWriter();
+        Thread.sleep(100);  // 저장 스레드가 빈 대기열을 확인하고 flushInterval 동안 대기할 때까지
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            auditLogWriter.enqueue(event());
+        }
+
+        // then
+        verify(jdbcTemplate, timeout(1000)).batchUpdate(anyString(), anyCollection(), eq(3), any());
+    }
+
+    @Test
+    void 대기열이_가득_차면_기록을_버리고_dropped_를_올린다() {
+        // given : 저장 스레드를 시작하지 않아 대기열이 비워지지 않음
+        properties.setBufferCapacity(2);
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, properties, meterRegistry);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            writer.enqueue(event());
+        }
+
+        // then
+        assertThat(meterRegistry.get("audit.log.enqueued").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.log.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 종료할_때_남아_있는_기록을_모두_저장한다() throws InterruptedException {
+        // given : batchSize 보다 적게 쌓여 flushInterval 전까지는 저장되지 않는 상태
+        properties.setFlushInterval(Duration.ofMinutes(1));
+        AuditLogWriter writer = startedWriter();
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(event());
+        }
+
+        // when
+        writer.shutdown();
+
+        // then
+        assertThat(meterRegistry.get("audit.log.written").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("audit.log.buffer.size").gauge().value()).isZero();
+    }
+
+    private AuditLogWriter startedWriter() {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, properties, meterRegistry);
+        writer.start();
+        return writer;
+    }
+
+    private static AuditEvent event() {
+        return new AuditEvent(1L, "admin@test.com", "UserAdminController.saveUsers", "POST", "/admin/users/bulk",
+                true, null, 3, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.domain.comment.controller;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CommentController.class)
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CommentService commentService;
+
+    @Test
+    void cursor_값을_비워서_요청하면_첫_페이지를_기본_size_로_조회한다() throws Exception {
+        // given
+        SliceResponse<CommentResponse> slice = new SliceResponse<>(List.of(comment(1L), comment(2L)), "2", true);
+        when(commentService.getCommentsByCursor(1L, null, 20)).thenReturn(slice);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents[0].id").value(1L))
+                .andExpect(jsonPath("$.contents[1].user.email").value("email"))
+                .andExpect(jsonPath("$.nextCursor").value("2"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+        verify(commentService, never()).getComments(anyLong());
+    }
+
+    @Test
+    void 응답의_nextCursor_를_넘기면_그_다음_댓글부터_조회한다() throws Exception {
+        // given
+        when(commentService.getCommentsByCursor(1L, 2L, 2))
+                .thenReturn(new SliceResponse<>(List.of(comment(3L)), null, false));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L).param("cursor", "2").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void cursor_파라미터가_없으면_기존_목록_조회로_응답하고_Deprecation_헤더를_붙인다() throws Exception {
+        // given
+        when(commentService.getComments(1L)).thenReturn(new SliceResponse<>(List.of(comment(1L)), null, false));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Deprecation", "true"))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
+                .andExpect(jsonPath("$[0].id").value(1L));
+        verify(commentService, never()).getCommentsByCursor(anyLong(), isNull(), anyInt());
+    }
+
+    @Test
+    void 기존_목록_조회에서_남은_댓글이_있으면_커서_조회_주소를_Link_헤더로_알려준다() throws Exception {
+        // given : 최대 건수까지만 응답하고 남은 댓글이 있음
+        when(commentService.getComments(1L)).thenReturn(new SliceResponse<>(List.of(comment(1L), comment(2L)), "2", true));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "</todos/1/comments?cursor=2>; rel=\"next\""))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void size_가_범위를_벗어나면_400을_응답한다() throws Exception {
+        // given
+        when(commentService.getCommentsByCursor(eq(1L), isNull(), eq(1000)))
+                .thenThrow(InvalidRequestException.withoutStackTrace("size는 1 이상 100 이하여야 합니다."));
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}/comments", 1L).param("cursor", "").param("size", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("size는 1 이상 100 이하여야 합니다."));
+    }
+
+    private static CommentResponse comment(long id) {
+        return new CommentResponse(id, "contents" + id, new UserResponse(1L, "email", "nickname"));
+    }
+}
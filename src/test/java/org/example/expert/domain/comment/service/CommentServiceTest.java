@@ -0,0 +1,136 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class, CommentService.class, TodoResponseCache.class})
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Todo todo;
+    private final List<Long> commentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 조회할 일정에 댓글 5개, 다른 일정에 댓글 3개를 번갈아 작성
+        User user = userRepository.save(new User("user@test.com", "password", UserRole.ROLE_USER, "nickname"));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        Todo otherTodo = todoRepository.save(new Todo("other", "contents", "Sunny", user));
+        for (int i = 0; i < 5; i++) {
+            commentIds.add(commentRepository.save(new Comment("comment" + i, user, todo)).getId());
+            if (i < 3) {
+                commentRepository.save(new Comment("other" + i, user, otherTodo));
+            }
+        }
+    }
+
+    @Test
+    void nextCursor_를_따라가면_해당_일정의_댓글을_빠짐없이_id_순서로_조회한다() {
+        // when
+        List<Long> fetched = new ArrayList<>();
+        List<Boolean> hasNexts = new ArrayList<>();
+        Long cursor = null;
+        do {
+            SliceResponse<CommentResponse> slice = commentService.getCommentsByCursor(todo.getId(), cursor, 2);
+            slice.getContents().forEach(comment -> fetched.add(comment.getId()));
+            hasNexts.add(slice.isHasNext());
+            cursor = slice.getNextCursor() != null ? Long.valueOf(slice.getNextCursor()) : null;
+        } while (cursor != null);
+
+        // then : 2 + 2 + 1
+        assertThat(fetched).containsExactlyElementsOf(commentIds);
+        assertThat(hasNexts).containsExactly(true, true, false);
+    }
+
+    @Test
+    void 댓글_수가_size_와_같으면_다음_페이지가_없다() {
+        // when
+        SliceResponse<CommentResponse> slice = commentService.getCommentsByCursor(todo.getId(), null, 5);
+
+        // then
+        assertThat(slice.getContents()).hasSize(5);
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 마지막_댓글_이후를_조회하면_빈_목록을_응답한다() {
+        // when
+        SliceResponse<CommentResponse> slice = commentService.getCommentsByCursor(todo.getId(), commentIds.get(4), 2);
+
+        // then
+        assertThat(slice.getContents()).isEmpty();
+        assertThat(slice.isHasNext()).isFalse();
+    }
+
+    @Test
+    void cursor_없는_기존_조회는_해당_일정의_댓글을_id_순서로_응답한다() {
+        // when
+        SliceResponse<CommentResponse> slice = commentService.getComments(todo.getId());
+
+        // then
+        assertThat(slice.getContents()).extracting(CommentResponse::getId).containsExactlyElementsOf(commentIds);
+        assertThat(slice.isHasNext()).isFalse();
+    }
+
+    @Test
+    void cursor_없는_기존_조회는_최대_1000건까지만_응답하고_다음_커서를_알려준다() {
+        // given : 기존 5건 + 1000건
+        User user = userRepository.findAll().get(0);
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            comments.add(new Comment("bulk" + i, user, todo));
+        }
+        commentRepository.saveAll(comments);
+
+        // when
+        SliceResponse<CommentResponse> slice = commentService.getComments(todo.getId());
+
+        // then
+        assertThat(slice.getContents()).hasSize(1000);
+        assertThat(slice.isHasNext()).isTrue();
+        assertThat(slice.getNextCursor()).isEqualTo(String.valueOf(slice.getContents().get(999).getId()));
+    }
+
+    @Test
+    void size_가_1보다_작거나_100보다_크면_예외가_발생한다() {
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(todo.getId(), null, 0))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> commentService.getCommentsByCursor(todo.getId(), null, 101))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
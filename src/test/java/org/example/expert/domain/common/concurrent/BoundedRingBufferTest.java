@@ -0,0 +1,77 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedRingBufferTest {
+
+    @Test
+    void 가득_차면_넣지_않고_false_를_반환한다() {
+        // given
+        BoundedRingBuffer<Integer> ringBuffer = new BoundedRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ringBuffer.offer(i)).isTrue();
+        }
+
+        // when
+        boolean offered = ringBuffer.offer(4);
+
+        // then
+        assertThat(offered).isFalse();
+        assertThat(ringBuffer.size()).isEqualTo(4);
+        assertThat(ringBuffer.poll()).isEqualTo(0);
+        assertThat(ringBuffer.offer(4)).isTrue();   // 하나 꺼내면 다시 넣을 수 있음
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_유실이나_중복없이_꺼낼_수_있다() throws InterruptedException {
+        // given
+        int producers = 8;
+        int perProducer = 10_000;
+        BoundedRingBuffer<Integer> ringBuffer = new BoundedRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        AtomicInteger dropped = new AtomicInteger();
+
+        // when : 생산자 8개가 동시에 넣고, 소비자 1개가 계속 꺼냄
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ringBuffer.offer(base + i)) {
+                        dropped.incrementAndGet();
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (received.size() < producers * perProducer) {
+            batch.clear();
+            ringBuffer.drainTo(batch, 256);
+            for (Integer value : batch) {
+                assertThat(received.add(value)).isTrue();
+            }
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(ringBuffer.poll()).isNull();
+    }
+}
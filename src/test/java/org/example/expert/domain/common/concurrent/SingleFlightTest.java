@@ -0,0 +1,136 @@
+package org.example.expert.domain.common.concurrent;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 5;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_key_의_동시_요청은_loader_를_한번만_실행하고_결과를_나눠_받는다() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "todo";
+        };
+
+        // when
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, loader));
+        waitUntil(() -> singleFlight.getInFlightCount() == 1);
+        List<Future<String>> followers = submitFollowers(singleFlight, loader);
+        waitUntil(() -> singleFlight.getCollapsedCount() == FOLLOWERS);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("todo");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("todo");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    void leader_에서_발생한_예외를_기다리던_요청에도_그대로_전달한다() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            await(release);
+            throw new InvalidRequestException("Todo not found");
+        };
+
+        // when
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, loader));
+        waitUntil(() -> singleFlight.getInFlightCount() == 1);
+        List<Future<String>> followers = submitFollowers(singleFlight, loader);
+        waitUntil(() -> singleFlight.getCollapsedCount() == FOLLOWERS);
+        release.countDown();
+
+        // then : CompletionException 등으로 감싸지 않은 원래 예외
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(InvalidRequestException.class);
+        for (Future<String> follower : followers) {
+            assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isInstanceOf(InvalidRequestException.class).hasMessage("Todo not found");
+        }
+    }
+
+    @Test
+    void leader_가_오래_걸리면_기다리던_요청은_제한_시간_후_503_으로_끝난다() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            await(release);
+            return "todo";
+        };
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, loader));
+        waitUntil(() -> singleFlight.getInFlightCount() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute(1L, loader))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("todo");
+    }
+
+    private List<Future<String>> submitFollowers(SingleFlight<Long, String> singleFlight, Supplier<String> loader) {
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, loader)));
+        }
+        return followers;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.get()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다.");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
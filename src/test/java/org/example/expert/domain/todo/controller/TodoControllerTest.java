@@ -1,26 +1,38 @@
 package org.example.expert.domain.todo.controller;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoVersion;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoBulkService;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +45,12 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoBulkService todoBulkService;
+
+    @MockBean
+    private TodoExportService todoExportService;
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
@@ -47,6 +65,8 @@ class TodoControllerTest {
                 "contents",
                 "Sunny",
                 userResponse,
+                0,
+                1,
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
@@ -84,4 +104,95 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
+
+    @Test
+    void todo_목록은_목록과_페이지_정보만_응답한다() throws Exception {
+        // given
+        UserResponse userResponse = new UserResponse(1L, "email", "sumin Kang");
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", userResponse, 0, 1, LocalDateTime.now(), LocalDateTime.now());
+        PageResponse<TodoResponse> pageResponse = new PageResponse<>(List.of(todo), 1, 10, 11, 2, true);
+        when(todoService.getTodos(anyInt(), anyInt(), any(), any(), any())).thenReturn(pageResponse);
+
+        // when & then
+        mockMvc.perform(get("/todos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contents[0].id").value(1L))
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.totalElements").value(11))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, TodoVersion.ofPage(pageResponse).getETag()));
+        verify(todoService, never()).getTodoPageVersion(anyInt(), anyInt(), any(), any(), any());   // 일반 요청은 버전을 따로 조회하지 않음
+    }
+
+    @Test
+    void todo_목록_조회_시_ETag_가_같으면_본문_없이_304를_응답한다() throws Exception {
+        // given
+        UserResponse userResponse = new UserResponse(1L, "email", "sumin Kang");
+        TodoResponse todo = new TodoResponse(1L, "title", "contents", "Sunny", userResponse, 0, 1, LocalDateTime.now(), LocalDateTime.now());
+        TodoVersion version = TodoVersion.ofPage(new PageResponse<>(List.of(todo), 1, 10, 1, 1, false));
+        when(todoService.getTodoPageVersion(anyInt(), anyInt(), any(), any(), any())).thenReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified());
+        verify(todoService, never()).getTodos(anyInt(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void 커서_목록은_일반_요청에서_버전을_따로_조회하지_않는다() throws Exception {
+        // given
+        SliceResponse<TodoResponse> sliceResponse = new SliceResponse<>(List.of(), null, false);
+        when(todoService.getTodosByCursor(any(), anyInt(), any(), any(), any())).thenReturn(sliceResponse);
+
+        // when & then
+        mockMvc.perform(get("/todos").param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, TodoVersion.ofSlice(sliceResponse).getETag()));
+        verify(todoService, never()).getTodoSliceVersion(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void todo_단건_조회_시_ETag_가_같으면_본문_없이_304를_응답한다() throws Exception {
+        // given
+        long todoId = 1L;
+        TodoVersion version = TodoVersion.of(todoId, LocalDateTime.now(), null, 2, 1);
+        when(todoService.getTodoVersion(todoId)).thenReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getETag()));
+        verify(todoService, never()).getTodo(anyLong());
+    }
+
+    @Test
+    void todo_단건_조회_시_ETag_가_다르면_새_ETag_와_함께_응답한다() throws Exception {
+        // given
+        long todoId = 1L;
+        UserResponse userResponse = new UserResponse(1L, "email", "sumin Kang");
+        TodoResponse response = new TodoResponse(todoId, "title", "contents", "Sunny", userResponse, 3, 1, LocalDateTime.now(), LocalDateTime.now());
+        when(todoService.getTodoVersion(todoId)).thenReturn(TodoVersion.from(response));
+        when(todoService.getTodo(todoId)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-0-2-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, TodoVersion.from(response).getETag()))
+                .andExpect(jsonPath("$.commentCount").value(3));
+    }
+
+    @Test
+    void 지원하지_않는_형식으로_내보내면_400을_응답하고_내보내지_않는다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/todos/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(HttpStatus.BAD_REQUEST.value()))
+                .andExpect(jsonPath("$.message").value("지원하지 않는 내보내기 형식입니다. (ndjson, csv)"));
+        verify(todoExportService, never()).export(any(), any(), any());
+    }
 }
@@ -0,0 +1,205 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.config.SqlStatementStats;
+import org.example.expert.domain.common.dto.PageResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.MaxSqlStatements;
+import org.example.expert.support.SqlStatementCountExtension;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+@ExtendWith(SqlStatementCountExtension.class)
+class TodoSearchRepositoryImplTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 유저 5명이 각각 일정 10개씩 작성
+        for (int i = 0; i < 5; i++) {
+            User user = userRepository.save(new User("user" + i + "@test.com", "password", UserRole.ROLE_USER, "nickname" + i));
+            for (int j = 0; j < 10; j++) {
+                todoRepository.save(new Todo("title" + j, "contents", "Sunny", user));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 일정_목록_조회는_페이지_크기와_관계없이_쿼리_수가_일정하다() {
+        // given
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, null);
+
+        // when
+        todoRepository.searchTodoResponses(condition, PageRequest.of(0, 10));
+        long smallPageStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        Page<TodoResponse> largePage = todoRepository.searchTodoResponses(condition, PageRequest.of(0, 40));
+        long largePageStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(largePage.getContent()).hasSize(40);
+        assertThat(largePage.getContent()).allSatisfy(todo -> assertThat(todo.getUser().getNickname()).isNotNull());
+        assertThat(smallPageStatements).isEqualTo(2);   // 내용 조회 1번 + count 1번
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(statistics.getEntityLoadCount()).isZero();   // 엔티티를 영속성 컨텍스트에 올리지 않음
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void 일정_단건_조회는_user_를_함께_가져와서_한번의_쿼리로_끝난다(SqlStatementStats sqlStatementStats) {
+        // given
+        Long todoId = todoRepository.findMaxId();
+        sqlStatementStats.reset();
+
+        // when
+        Todo todo = todoRepository.findByIdWithUserFromQueryDsl(todoId).orElseThrow();
+
+        // then
+        assertThat(todo.getUser().getNickname()).isNotNull();
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void 커서_조회는_count_쿼리_없이_한번의_쿼리로_끝난다() {
+        // given
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, null);
+
+        // when
+        List<TodoResponse> todos = todoRepository.searchTodoResponsesAfterCursor(condition, null, 31);
+
+        // then
+        assertThat(todos).hasSize(31);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 목록_버전은_응답_본문으로_만든_ETag_와_같다() {
+        // given
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, null);
+        PageRequest pageable = PageRequest.of(1, 10);
+        TodoVersion fromBody = TodoVersion.ofPage(PageResponse.from(todoRepository.searchTodoResponses(condition, pageable)));
+        statistics.clear();
+
+        // when
+        TodoVersion version = todoRepository.searchTodoPageVersion(condition, pageable);
+
+        // then
+        assertThat(version.getETag()).isEqualTo(fromBody.getETag());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);   // 버전 컬럼 조회 1번 + count 1번
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void 커서_목록_버전은_count_쿼리_없이_조회한다(SqlStatementStats sqlStatementStats) {
+        // given
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, null);
+        List<TodoResponse> todos = todoRepository.searchTodoResponsesAfterCursor(condition, null, 31);
+        TodoVersion fromBody = TodoVersion.ofSlice(new SliceResponse<>(todos.subList(0, 30), null, true));
+        sqlStatementStats.reset();
+
+        // when
+        TodoVersion version = todoRepository.searchTodoSliceVersion(condition, null, 30);
+
+        // then
+        assertThat(version.getETag()).isEqualTo(fromBody.getETag());
+    }
+
+    @Test
+    void 일정이_추가되면_목록_버전이_바뀐다() {
+        // given
+        TodoSearchCondition condition = TodoSearchCondition.of(null, null, null);
+        TodoVersion before = todoRepository.searchTodoPageVersion(condition, PageRequest.of(0, 10));
+
+        User user = userRepository.findAll().get(0);
+        todoRepository.save(new Todo("new", "contents", "Sunny", user));
+        em.flush();
+
+        // when
+        TodoVersion after = todoRepository.searchTodoPageVersion(condition, PageRequest.of(0, 10));
+
+        // then
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+    }
+
+    @Test
+    void 댓글_수가_바뀌면_modifiedAt_은_그대로_두고_버전과_Last_Modified_가_바뀐다() {
+        // given
+        Long todoId = todoRepository.findMaxId();
+        Todo todo = todoRepository.findById(todoId).orElseThrow();
+        TodoVersion before = todoRepository.findTodoVersion(todoId).orElseThrow();
+        em.clear();
+
+        // when
+        LocalDateTime now = todo.getModifiedAt().plusMinutes(1);
+        todoRepository.increaseCommentCount(todoId, now);
+        em.clear();
+
+        // then
+        Todo updated = todoRepository.findById(todoId).orElseThrow();
+        TodoVersion after = todoRepository.findTodoVersion(todoId).orElseThrow();
+        assertThat(updated.getModifiedAt()).isEqualTo(todo.getModifiedAt());    // 날짜 검색 / 목록 정렬 순서가 바뀌지 않음
+        assertThat(updated.getCountersModifiedAt()).isEqualTo(now);
+        assertThat(after.getETag()).isNotEqualTo(before.getETag());
+        assertThat(after.getLastModified()).isGreaterThan(before.getLastModified());
+    }
+
+    @Test
+    void 카운터_보정으로_개수가_바뀐_일정만_버전이_바뀐다() {
+        // given
+        Long changedId = todoRepository.findMaxId();
+        Long unchangedId = changedId - 1;
+        todoRepository.increaseCommentCount(changedId, LocalDateTime.now());    // 실제 댓글이 없으므로 보정 대상
+        em.clear();
+        TodoVersion changedBefore = todoRepository.findTodoVersion(changedId).orElseThrow();
+        TodoVersion unchangedBefore = todoRepository.findTodoVersion(unchangedId).orElseThrow();
+
+        // when
+        todoRepository.recalculateCounts(unchangedId, changedId, LocalDateTime.now().plusMinutes(1));
+        em.clear();
+
+        // then
+        assertThat(todoRepository.findTodoVersion(changedId).orElseThrow().getETag()).isNotEqualTo(changedBefore.getETag());
+        assertThat(todoRepository.findTodoVersion(changedId).orElseThrow().getLastModified()).isGreaterThan(changedBefore.getLastModified());
+        assertThat(todoRepository.findTodoVersion(unchangedId).orElseThrow().getLastModified()).isEqualTo(unchangedBefore.getLastModified());
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResult;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * chunk 마다 별도의 트랜잭션으로 커밋되는지 확인하기 위해 테스트 트랜잭션 없이(NOT_SUPPORTED) 실행합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class, TodoBulkService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoBulkServiceTest {
+
+    @Autowired
+    private TodoBulkService todoBulkService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @MockBean
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("bulk@test.com", "password", UserRole.ROLE_USER, "nickname"));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole(), user.getNickname());
+        when(todoWeatherEnricher.isEnabled()).thenReturn(false);
+        when(weatherClient.getTodayWeather()).thenReturn("Sunny");
+    }
+
+    @AfterEach
+    void tearDown() {
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 유효하지_않은_항목만_실패로_처리하고_나머지는_요청_순서대로_저장한다() {
+        // given
+        List<TodoSaveRequest> items = List.of(
+                new TodoSaveRequest("title0", "contents"),
+                new TodoSaveRequest("", "contents"),
+                new TodoSaveRequest("title2", "contents")
+        );
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, new TodoBulkSaveRequest(items));
+
+        // then
+        List<TodoBulkSaveResult> results = response.getResults();
+        assertThat(results).extracting(TodoBulkSaveResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(results).extracting(TodoBulkSaveResult::getStatus).containsExactly(
+                TodoBulkSaveResult.Status.SUCCESS, TodoBulkSaveResult.Status.FAILED, TodoBulkSaveResult.Status.SUCCESS);
+        assertThat(results.get(1).getMessage()).startsWith("title");
+        assertSavedAs(results.get(0), "title0");
+        assertSavedAs(results.get(2), "title2");
+        verify(weatherClient, times(1)).getTodayWeather();  // 날씨는 요청 전체에 대해 한번만 조회
+    }
+
+    @Test
+    void 저장에_실패한_chunk_만_실패로_처리하고_앞서_커밋된_chunk_는_유지한다() {
+        // given : 600개 = chunk 2개(500 + 100), 두 번째 chunk 에 컬럼 길이를 넘는 제목이 있음
+        List<TodoSaveRequest> items = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            items.add(new TodoSaveRequest("title" + i, "contents"));
+        }
+        items.set(550, new TodoSaveRequest("t".repeat(300), "contents"));
+
+        // when
+        TodoBulkSaveResponse response = todoBulkService.saveTodos(authUser, new TodoBulkSaveRequest(items));
+
+        // then
+        List<TodoBulkSaveResult> results = response.getResults();
+        assertThat(results).hasSize(600);
+        assertThat(results.subList(0, 500)).allMatch(result -> result.getStatus() == TodoBulkSaveResult.Status.SUCCESS);
+        assertThat(results.subList(500, 600)).allMatch(result -> result.getStatus() == TodoBulkSaveResult.Status.FAILED);
+        assertThat(response.getSucceeded()).isEqualTo(500);
+        assertThat(todoRepository.count()).isEqualTo(500);
+
+        // 결과의 id 가 요청 순서에 맞는 일정을 가리킴
+        assertSavedAs(results.get(0), "title0");
+        assertSavedAs(results.get(499), "title499");
+        assertThat(results.subList(0, 500)).extracting(TodoBulkSaveResult::getId).isSorted().doesNotHaveDuplicates();
+    }
+
+    private void assertSavedAs(TodoBulkSaveResult result, String title) {
+        Todo saved = todoRepository.findById(result.getId()).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo(title);
+        assertThat(saved.getWeather()).isEqualTo("Sunny");
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        Validator validator() {
+            return Validation.buildDefaultValidatorFactory().getValidator();
+        }
+    }
+}
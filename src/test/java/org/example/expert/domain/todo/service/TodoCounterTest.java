@@ -0,0 +1,157 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카운터는 서비스 / 보정 작업이 각각 커밋한 결과를 확인해야 하므로 테스트 트랜잭션 없이(NOT_SUPPORTED) 실행합니다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class,
+        CommentService.class, ManagerService.class, TodoCounterRepairJob.class, TodoResponseCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoCounterTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private TodoCounterRepairJob todoCounterRepairJob;
+
+    @Autowired
+    private TodoResponseCache todoResponseCache;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User writer;
+    private User member;
+    private AuthUser writerAuth;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("writer@test.com", "password", UserRole.ROLE_USER, "writer"));
+        member = userRepository.save(new User("member@test.com", "password", UserRole.ROLE_USER, "member"));
+        writerAuth = new AuthUser(writer.getId(), writer.getEmail(), writer.getUserRole(), writer.getNickname());
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", writer));     // 작성자가 담당자로 함께 등록됨
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 댓글을_저장하면_댓글_수가_늘고_modifiedAt_은_바뀌지_않는다() {
+        // given
+        Todo before = reload();
+
+        // when
+        commentService.saveComment(writerAuth, todo.getId(), new CommentSaveRequest("comment1"));
+        commentService.saveComment(writerAuth, todo.getId(), new CommentSaveRequest("comment2"));
+
+        // then
+        Todo after = reload();
+        assertThat(after.getCommentCount()).isEqualTo(2);
+        assertThat(after.getCountersModifiedAt()).isNotNull();
+        assertThat(after.getModifiedAt()).isEqualTo(before.getModifiedAt());
+    }
+
+    @Test
+    void 담당자를_등록하고_삭제하면_담당자_수가_함께_바뀐다() {
+        // when
+        ManagerSaveResponse saved = managerService.saveManager(writerAuth, todo.getId(), new ManagerSaveRequest(member.getId()));
+
+        // then
+        assertThat(reload().getManagerCount()).isEqualTo(2);
+
+        // when
+        managerService.deleteManager(writerAuth, todo.getId(), saved.getId());
+
+        // then
+        assertThat(reload().getManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 보정_작업은_어긋난_카운터를_실제_개수로_맞추고_캐시를_비운다() {
+        // given : 서비스를 거치지 않고 댓글을 저장하고, 담당자 수를 직접 어긋나게 만듦
+        commentRepository.save(new Comment("comment", writer, todo));
+        jdbcTemplate.update("UPDATE todos SET manager_count = 5 WHERE id = ?", todo.getId());
+        Todo before = reload();
+        todoResponseCache.put(todo.getId(), new TodoResponse(todo.getId(), "title", "contents", "Sunny",
+                new UserResponse(writer.getId(), writer.getEmail(), writer.getNickname()), 0, 5, before.getCreatedAt(), before.getModifiedAt()));
+
+        // when
+        todoCounterRepairJob.repair();
+
+        // then
+        Todo after = reload();
+        assertThat(after.getCommentCount()).isEqualTo(1);
+        assertThat(after.getManagerCount()).isEqualTo(1);
+        assertThat(after.getCountersModifiedAt()).isNotNull();
+        assertThat(after.getModifiedAt()).isEqualTo(before.getModifiedAt());
+        assertThat(todoResponseCache.get(todo.getId())).isNull();
+    }
+
+    @Test
+    void 보정_작업은_카운터가_맞는_일정의_countersModifiedAt_을_바꾸지_않는다() {
+        // when
+        todoCounterRepairJob.repair();
+
+        // then
+        Todo after = reload();
+        assertThat(after.getCommentCount()).isZero();
+        assertThat(after.getManagerCount()).isEqualTo(1);
+        assertThat(after.getCountersModifiedAt()).isNull();
+    }
+
+    private Todo reload() {
+        return todoRepository.findById(todo.getId()).orElseThrow();
+    }
+}
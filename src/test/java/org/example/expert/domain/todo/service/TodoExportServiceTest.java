@@ -0,0 +1,172 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 9, 1, 10, 0, 0);
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TodoExportService todoExportService =
+            new TodoExportService(todoRepository, objectMapper, 500, 3, Duration.ofMinutes(1));
+
+    @Test
+    void CSV_는_쉼표_따옴표_줄바꿈이_있는_값만_큰따옴표로_감싸고_따옴표는_두번_쓴다() throws IOException {
+        // given
+        stubTodos(
+                todo(1L, "plain", "a,b"),
+                todo(2L, "say \"hi\"", "line1\nline2"),
+                todo(3L, "carriage\rreturn", null)
+        );
+
+        // when
+        String csv = export(TodoExportService.Format.CSV);
+
+        // then
+        assertThat(csv.split("\n", -1)[0])
+                .isEqualTo("id,title,contents,weather,userId,userEmail,userNickname,commentCount,managerCount,createdAt,modifiedAt");
+        assertThat(csv).contains("1,plain,\"a,b\",Sunny,");
+        assertThat(csv).contains("2,\"say \"\"hi\"\"\",\"line1\nline2\",Sunny,");
+        assertThat(csv).contains("3,\"carriage\rreturn\",,Sunny,");
+        assertThat(csv).endsWith(CREATED_AT + "\n");
+    }
+
+    @Test
+    void NDJSON_은_한_줄에_일정_하나씩_쓰고_값의_줄바꿈은_이스케이프한다() throws IOException {
+        // given
+        stubTodos(
+                todo(1L, "first", "line1\nline2"),
+                todo(2L, "second", "contents")
+        );
+
+        // when
+        String ndjson = export(TodoExportService.Format.NDJSON);
+
+        // then
+        assertThat(ndjson).endsWith("\n");
+        String[] lines = ndjson.substring(0, ndjson.length() - 1).split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("contents").asText()).isEqualTo("line1\nline2");
+        assertThat(first.get("user").get("email").asText()).isEqualTo("email@test.com");
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("second");
+    }
+
+    @Test
+    void 내보낼_일정이_없으면_CSV_는_헤더만_NDJSON_은_빈_본문을_쓴다() throws IOException {
+        // given
+        when(todoRepository.streamTodoResponses(any(), anyInt(), anyInt())).thenAnswer(invocation -> Stream.empty());
+
+        // when & then
+        assertThat(export(TodoExportService.Format.CSV)).hasLineCount(1);
+        assertThat(export(TodoExportService.Format.NDJSON)).isEmpty();
+    }
+
+    @Test
+    void CSV_는_수식으로_실행될_수_있는_값_앞에_작은따옴표를_붙인다() throws IOException {
+        // given
+        stubTodos(
+                todo(1L, "=HYPERLINK(\"http://evil\")", "+1"),
+                todo(2L, "-2", "@SUM(A1)"),
+                todo(3L, "\tcmd", "a-b=c")
+        );
+
+        // when
+        String csv = export(TodoExportService.Format.CSV);
+
+        // then : 앞 글자만 확인하고, 따옴표 이스케이프는 그대로 적용
+        assertThat(csv).contains("1,\"'=HYPERLINK(\"\"http://evil\"\")\",'+1,Sunny,");
+        assertThat(csv).contains("2,'-2,'@SUM(A1),Sunny,");
+        assertThat(csv).contains("3,'\tcmd,a-b=c,Sunny,");
+    }
+
+    @Test
+    void 내보낼_일정이_최대_행_수를_넘으면_한_건_더_조회해서_확인하고_예외로_중단한다() {
+        // given : 최대 3건
+        stubTodos(todo(1L, "a", "a"), todo(2L, "b", "b"), todo(3L, "c", "c"), todo(4L, "d", "d"));
+
+        // when & then
+        assertThatThrownBy(() -> export(TodoExportService.Format.NDJSON))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("3건을 넘습니다");
+        verify(todoRepository).streamTodoResponses(any(), eq(500), eq(4));
+    }
+
+    @Test
+    void 최대_행_수만큼은_모두_내보낸다() throws IOException {
+        // given
+        stubTodos(todo(1L, "a", "a"), todo(2L, "b", "b"), todo(3L, "c", "c"));
+
+        // when & then
+        assertThat(export(TodoExportService.Format.NDJSON)).hasLineCount(3);
+    }
+
+    @Test
+    void 내보내기_시간을_넘기면_예외로_중단한다() {
+        // given
+        TodoExportService timedOut = new TodoExportService(todoRepository, objectMapper, 500, 3, Duration.ZERO);
+        stubTodos(todo(1L, "a", "a"));
+
+        // when & then
+        assertThatThrownBy(() -> timedOut.export(TodoSearchCondition.of(null, null, null), TodoExportService.Format.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void 내보내기_형식은_대소문자를_구분하지_않는다() {
+        assertThat(TodoExportService.Format.of("CSV")).isEqualTo(TodoExportService.Format.CSV);
+        assertThat(TodoExportService.Format.of("ndJson")).isEqualTo(TodoExportService.Format.NDJSON);
+    }
+
+    @Test
+    void 지원하지_않는_내보내기_형식이면_400_예외가_발생한다() {
+        assertThatThrownBy(() -> TodoExportService.Format.of("xml"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("지원하지 않는 내보내기 형식입니다. (ndjson, csv)");
+        assertThatThrownBy(() -> TodoExportService.Format.of(null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private void stubTodos(TodoResponse... todos) {
+        when(todoRepository.streamTodoResponses(any(), anyInt(), anyInt())).thenAnswer(invocation -> Stream.of(todos));
+    }
+
+    private String export(TodoExportService.Format format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoExportService.export(TodoSearchCondition.of(null, null, null), format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static TodoResponse todo(long id, String title, String contents) {
+        UserResponse user = new UserResponse(1L, "email@test.com", "nickname");
+        return new TodoResponse(id, title, contents, "Sunny", user, 0, 1, CREATED_AT, CREATED_AT);
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoResponseCacheTest {
+
+    private final TodoResponseCache todoResponseCache = new TodoResponseCache(100, Duration.ofMinutes(5));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션_밖에서_evict_하면_바로_지운다() {
+        // given
+        todoResponseCache.put(1L, todoResponse(1L));
+
+        // when
+        todoResponseCache.evict(1L);
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isNull();
+    }
+
+    @Test
+    void 트랜잭션_안에서_evict_하면_즉시_지우고_커밋_후에_한번_더_지운다() {
+        // given
+        todoResponseCache.put(1L, todoResponse(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        todoResponseCache.evict(1L);
+        assertThat(todoResponseCache.get(1L)).isNull();
+
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시한 상황
+        todoResponseCache.put(1L, todoResponse(1L));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isNull();
+    }
+
+    @Test
+    void 커밋되지_않으면_즉시_지운_것_외에는_다시_지우지_않는다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        todoResponseCache.evict(1L);
+
+        // when : 롤백되어 afterCommit 이 호출되지 않음
+        todoResponseCache.put(1L, todoResponse(1L));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isNotNull();
+    }
+
+    @Test
+    void evictAll_은_모든_응답을_지우고_커밋_후에_한번_더_지운다() {
+        // given
+        todoResponseCache.put(1L, todoResponse(1L));
+        todoResponseCache.put(2L, todoResponse(2L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        todoResponseCache.evictAll();
+        todoResponseCache.put(2L, todoResponse(2L));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isNull();
+        assertThat(todoResponseCache.get(2L)).isNull();
+    }
+
+    @Test
+    void 지정한_일정들만_지운다() {
+        // given
+        todoResponseCache.put(1L, todoResponse(1L));
+        todoResponseCache.put(2L, todoResponse(2L));
+        todoResponseCache.put(3L, todoResponse(3L));
+
+        // when
+        todoResponseCache.evictAll(List.of(1L, 2L));
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isNull();
+        assertThat(todoResponseCache.get(2L)).isNull();
+        assertThat(todoResponseCache.get(3L)).isNotNull();
+    }
+
+    @Test
+    void 조회를_시작한_뒤에_지워진_일정은_조회한_응답을_캐시에_넣지_않는다() {
+        // given : 커밋 전에 이전 값을 읽기 시작한 요청
+        long loadToken = todoResponseCache.loadToken();
+        TodoResponse stale = todoResponse(1L);
+
+        // when : 변경이 커밋되어 캐시를 지운 뒤에 읽은 값을 넣음
+        todoResponseCache.evict(1L);
+        todoResponseCache.put(1L, loadToken, stale);
+
+        // then : 다음 조회가 새 값을 다시 읽음
+        assertThat(todoResponseCache.get(1L)).isNull();
+
+        long nextLoadToken = todoResponseCache.loadToken();
+        todoResponseCache.put(1L, nextLoadToken, todoResponse(1L));
+        assertThat(todoResponseCache.get(1L)).isNotNull();
+    }
+
+    @Test
+    void 조회를_시작한_뒤에_전체가_지워지면_조회한_응답을_캐시에_넣지_않는다() {
+        // given
+        long loadToken = todoResponseCache.loadToken();
+
+        // when
+        todoResponseCache.evictAll();
+        todoResponseCache.put(1L, loadToken, todoResponse(1L));
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isNull();
+    }
+
+    @Test
+    void 캐시에_있는_응답보다_수정_시각이_이전인_응답은_넣지_않는다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse newer = todoResponse(1L, now, now);
+        TodoResponse olderContents = todoResponse(1L, now.minusSeconds(1), now);
+        TodoResponse olderCounters = todoResponse(1L, now, now.minusSeconds(1));
+        todoResponseCache.put(1L, newer);
+
+        // when
+        todoResponseCache.put(1L, olderContents);
+        todoResponseCache.put(1L, olderCounters);
+
+        // then
+        assertThat(todoResponseCache.get(1L)).isSameAs(newer);
+    }
+
+    private static TodoResponse todoResponse(long todoId, LocalDateTime modifiedAt, LocalDateTime countersModifiedAt) {
+        UserResponse user = new UserResponse(1L, "email", "nickname");
+        return new TodoResponse(todoId, "title", "contents", "Sunny", user, 0, 1, modifiedAt, modifiedAt, countersModifiedAt);
+    }
+
+    private static TodoResponse todoResponse(long todoId) {
+        UserResponse user = new UserResponse(1L, "email", "nickname");
+        return new TodoResponse(todoId, "title", "contents", "Sunny", user, 0, 1, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TodoWeatherEnricherTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final WeatherClient weatherClient = mock(WeatherClient.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final TodoWeatherEnrichmentProperties properties = new TodoWeatherEnrichmentProperties();
+
+    private TodoWeatherEnricher enricher;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        properties.setQueueCapacity(1);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(weatherClient.getTodayWeather()).thenReturn("Sunny");
+
+        // 워커를 시작하지 않아서(start 호출 X) 큐에 넣은 일정이 그대로 남아 있음
+        enricher = new TodoWeatherEnricher(
+                todoRepository,
+                weatherClient,
+                new TransactionTemplate(transactionManager),
+                new TodoResponseCache(100, Duration.ofMinutes(5)),
+                properties
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 큐가_가득_차면_요청_스레드에서_처리하지_않고_PENDING_으로_남긴다() {
+        // given : 큐(용량 1)를 먼저 채움
+        enricher.enqueueAfterCommit(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        enricher.enqueueAfterCommit(2L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        // when & then : 커밋 이후 콜백에서 예외가 나가지 않고, 날씨 조회 / UPDATE 도 하지 않음
+        assertThatCode(() -> synchronizations.forEach(TransactionSynchronization::afterCommit)).doesNotThrowAnyException();
+        verifyNoInteractions(weatherClient);
+        verify(todoRepository, never()).updatePendingWeather(anyCollection(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void sweep_은_PENDING_으로_남은_일정을_큐의_남은_자리만큼_다시_넣는다() throws InterruptedException {
+        // given
+        when(todoRepository.findIdsByWeatherAfterId(eq(TodoWeatherEnricher.PENDING_WEATHER), eq(0L), any(Pageable.class))).thenReturn(List.of(2L));
+
+        // when : 큐에 넣은 뒤 종료 시 남은 일정 처리
+        enricher.sweepPending();
+        enricher.stop();
+
+        // then
+        verify(todoRepository).updatePendingWeather(eq(List.of(2L)), eq("Sunny"), eq(TodoWeatherEnricher.PENDING_WEATHER), any());
+    }
+
+    @Test
+    void 큐에_자리가_없으면_sweep_은_조회하지_않는다() {
+        // given
+        enricher.enqueueAfterCommit(1L);
+
+        // when
+        enricher.sweepPending();
+
+        // then
+        verify(todoRepository, never()).findIdsByWeatherAfterId(anyString(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void sweep_은_이전_sweep_의_마지막_id_다음부터_조회하고_끝까지_조회하면_처음부터_다시_조회한다() throws InterruptedException {
+        // given : 큐(용량 1)를 채우는 PENDING 일정 2번, 그 뒤로는 남은 일정 없음
+        when(todoRepository.findIdsByWeatherAfterId(eq(TodoWeatherEnricher.PENDING_WEATHER), eq(0L), any(Pageable.class))).thenReturn(List.of(2L));
+        when(todoRepository.findIdsByWeatherAfterId(eq(TodoWeatherEnricher.PENDING_WEATHER), eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        // when : sweep 할 때마다 종료 처리로 큐를 비움
+        enricher.sweepPending();
+        enricher.stop();
+        enricher.sweepPending();
+        enricher.sweepPending();
+
+        // then : 0 다음 -> 2 다음(끝) -> 다시 0 다음
+        InOrder inOrder = inOrder(todoRepository);
+        inOrder.verify(todoRepository).findIdsByWeatherAfterId(eq(TodoWeatherEnricher.PENDING_WEATHER), eq(0L), any(Pageable.class));
+        inOrder.verify(todoRepository).findIdsByWeatherAfterId(eq(TodoWeatherEnricher.PENDING_WEATHER), eq(2L), any(Pageable.class));
+        inOrder.verify(todoRepository).findIdsByWeatherAfterId(eq(TodoWeatherEnricher.PENDING_WEATHER), eq(0L), any(Pageable.class));
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class, UserBulkRepository.class})
+class UserBulkRepositoryTest {
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void 저장된_유저의_id_를_입력_순서대로_반환한다() {
+        // given
+        List<User> users = List.of(
+                new User("first@test.com", "password1", UserRole.ROLE_USER, "first"),
+                new User("second@test.com", "password2", UserRole.ROLE_ADMIN, "second"),
+                new User("third@test.com", "password3", UserRole.ROLE_USER, "third")
+        );
+
+        // when
+        List<Long> ids = userBulkRepository.insertAll(users);
+
+        // then
+        em.clear();
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+        for (int i = 0; i < users.size(); i++) {
+            User saved = userRepository.findById(ids.get(i)).orElseThrow();
+            assertThat(saved.getEmail()).isEqualTo(users.get(i).getEmail());
+            assertThat(saved.getPassword()).isEqualTo(users.get(i).getPassword());
+            assertThat(saved.getUserRole()).isEqualTo(users.get(i).getUserRole());
+            assertThat(saved.getCreatedAt()).isNotNull();
+            assertThat(saved.getModifiedAt()).isEqualTo(saved.getCreatedAt());
+        }
+    }
+
+    @Test
+    void 이메일_목록으로_이미_가입된_이메일만_조회한다() {
+        // given
+        userBulkRepository.insertAll(List.of(new User("exists@test.com", "password", UserRole.ROLE_USER, "nickname")));
+
+        // when
+        List<String> emails = userRepository.findEmailsByEmailIn(List.of("exists@test.com", "new@test.com"));
+
+        // then
+        assertThat(emails).containsExactly("exists@test.com");
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryDslConfig;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 저장되므로 테스트 트랜잭션 없이(NOT_SUPPORTED) 각 단계를 별도 트랜잭션으로 실행합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private User savedUser;
+
+    @BeforeEach
+    void setUp() {
+        savedUser = userRepository.save(new User("cache@test.com", "password", UserRole.ROLE_USER, "nickname"));
+        todoRepository.save(new Todo("title", "contents", "Sunny", savedUser));
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        findUser();     // 첫 조회로 캐시 적재
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 유저를_id로_다시_조회하면_쿼리_없이_2차_캐시에서_가져온다() {
+        // when
+        User user = findUser();
+
+        // then
+        assertThat(user.getEmail()).isEqualTo("cache@test.com");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void 유저를_email로_다시_조회하면_natural_id_캐시에서_가져온다() {
+        // given
+        transactionTemplate.execute(status -> userRepository.loadByEmail("cache@test.com").orElseThrow());
+        statistics.clear();
+
+        // when
+        User user = transactionTemplate.execute(status -> userRepository.loadByEmail("cache@test.com").orElseThrow());
+
+        // then
+        assertThat(user.getId()).isEqualTo(savedUser.getId());
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void 일정_카운터_갱신은_유저_캐시를_비우지_않는다() {
+        // given
+        Long todoId = todoRepository.findMaxId();
+
+        // when : JPQL bulk UPDATE + native 보정 쿼리
+        transactionTemplate.executeWithoutResult(status -> todoRepository.increaseCommentCount(todoId, LocalDateTime.now()));
+        transactionTemplate.executeWithoutResult(status -> todoRepository.recalculateCounts(todoId, todoId, LocalDateTime.now()));
+        statistics.clear();
+        findUser();
+
+        // then
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+    }
+
+    private User findUser() {
+        return transactionTemplate.execute(status -> userRepository.findById(savedUser.getId()).orElseThrow());
+    }
+}
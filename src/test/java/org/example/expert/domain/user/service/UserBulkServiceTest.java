@@ -0,0 +1,155 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.user.dto.request.UserBulkSaveRequest;
+import org.example.expert.domain.user.dto.response.UserBulkSaveResponse;
+import org.example.expert.domain.user.dto.response.UserBulkSaveResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserBulkRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBulkServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserBulkRepository userBulkRepository = mock(UserBulkRepository.class);
+    private final PasswordHasher passwordHasher = mock(PasswordHasher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private UserBulkService userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(passwordHasher.encodeAll(anyList())).thenAnswer(invocation -> {
+            List<String> rawPasswords = invocation.getArgument(0);
+            return rawPasswords.stream().map(raw -> "encoded-" + raw).toList();
+        });
+
+        userBulkService = new UserBulkService(
+                userRepository,
+                userBulkRepository,
+                passwordHasher,
+                new TransactionTemplate(transactionManager),
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    @Test
+    void 요청_안에서_대소문자만_다른_이메일은_처음_것만_저장한다() {
+        // given
+        when(userRepository.findEmailsByEmailIn(anyList())).thenReturn(List.of());
+        when(userBulkRepository.insertAll(anyList())).thenReturn(List.of(10L));
+
+        // when
+        UserBulkSaveResponse response = userBulkService.saveUsers(request(
+                signup("user@test.com"),
+                signup("USER@test.com")
+        ));
+
+        // then
+        assertThat(response.getResults())
+                .extracting(UserBulkSaveResult::getIndex, UserBulkSaveResult::getStatus, UserBulkSaveResult::getId)
+                .containsExactly(
+                        tuple(0, UserBulkSaveResult.Status.SUCCESS, 10L),
+                        tuple(1, UserBulkSaveResult.Status.FAILED, null)
+                );
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("요청 안에 중복된 이메일입니다.");
+    }
+
+    @Test
+    void 이미_가입된_이메일은_대소문자가_달라도_저장하지_않는다() {
+        // given : DB 에는 대소문자가 다른 이메일로 저장되어 있음
+        when(userRepository.findEmailsByEmailIn(anyList())).thenReturn(List.of("Exists@Test.com"));
+        when(userBulkRepository.insertAll(anyList())).thenReturn(List.of(10L));
+
+        // when
+        UserBulkSaveResponse response = userBulkService.saveUsers(request(
+                signup("exists@test.com"),
+                signup("new@test.com")
+        ));
+
+        // then
+        assertThat(response.getResults())
+                .extracting(UserBulkSaveResult::getStatus, UserBulkSaveResult::getMessage)
+                .containsExactly(
+                        tuple(UserBulkSaveResult.Status.FAILED, "이미 존재하는 이메일입니다."),
+                        tuple(UserBulkSaveResult.Status.SUCCESS, null)
+                );
+        verify(passwordHasher).encodeAll(List.of("password-new@test.com"));
+    }
+
+    @Test
+    void 저장된_id_를_요청_순서에_맞게_연결한다() {
+        // given : 가운데 항목은 유효성 검사에 실패해 INSERT 대상에서 빠짐
+        when(userRepository.findEmailsByEmailIn(anyList())).thenReturn(List.of());
+        when(userBulkRepository.insertAll(anyList())).thenReturn(List.of(10L, 11L));
+
+        // when
+        UserBulkSaveResponse response = userBulkService.saveUsers(request(
+                signup("first@test.com"),
+                new SignupRequest("invalid", "password", "ROLE_USER", "nickname"),
+                signup("third@test.com")
+        ));
+
+        // then
+        assertThat(response.getResults())
+                .extracting(UserBulkSaveResult::getIndex, UserBulkSaveResult::getEmail, UserBulkSaveResult::getId)
+                .containsExactly(
+                        tuple(0, "first@test.com", 10L),
+                        tuple(1, "invalid", null),
+                        tuple(2, "third@test.com", 11L)
+                );
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userBulkRepository).insertAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(User::getEmail, User::getPassword)
+                .containsExactly(
+                        tuple("first@test.com", "encoded-password-first@test.com"),
+                        tuple("third@test.com", "encoded-password-third@test.com")
+                );
+    }
+
+    @Test
+    void chunk_저장에_실패하면_그_chunk_의_항목만_실패로_처리한다() {
+        // given
+        when(userRepository.findEmailsByEmailIn(anyList())).thenReturn(List.of());
+        when(userBulkRepository.insertAll(anyList())).thenThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        UserBulkSaveResponse response = userBulkService.saveUsers(request(signup("user@test.com")));
+
+        // then
+        assertThat(response.getResults())
+                .extracting(UserBulkSaveResult::getStatus, UserBulkSaveResult::getMessage)
+                .containsExactly(tuple(UserBulkSaveResult.Status.FAILED, "저장에 실패했습니다."));
+    }
+
+    private static UserBulkSaveRequest request(SignupRequest... users) {
+        return new UserBulkSaveRequest(List.of(users));
+    }
+
+    private static SignupRequest signup(String email) {
+        return new SignupRequest(email, "password-" + email.toLowerCase(), "ROLE_USER", "nickname");
+    }
+}
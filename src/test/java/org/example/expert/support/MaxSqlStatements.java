@@ -0,0 +1,17 @@
+package org.example.expert.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드에서 실행되는 SQL 수의 상한 (SqlStatementCountExtension 과 함께 사용)
+ * @BeforeEach 에서 실행된 SQL 은 포함하지 않습니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxSqlStatements {
+
+    int value();
+}
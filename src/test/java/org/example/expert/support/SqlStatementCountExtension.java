@@ -0,0 +1,54 @@
+package org.example.expert.support;
+
+import org.example.expert.config.SqlStatementStats;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.util.Optional;
+
+/**
+ * 테스트 메서드 실행 동안 Hibernate 가 실행한 SQL 을 세고, @MaxSqlStatements 의 상한을 넘으면 실패시킵니다.
+ * MockMvc 요청도 같은 스레드에서 실행되므로 SqlStatementMetricsFilter 를 거친 SQL 까지 함께 집계됩니다.
+ * 테스트 메서드에 SqlStatementStats 파라미터를 선언하면 현재 통계를 직접 확인하거나 reset() 할 수 있습니다.
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, ParameterResolver {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementStats.begin();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        SqlStatementStats.end();
+
+        Optional<MaxSqlStatements> maxSqlStatements = context.getTestMethod()
+                .map(method -> method.getAnnotation(MaxSqlStatements.class));
+        if (stats == null || maxSqlStatements.isEmpty() || context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        int max = maxSqlStatements.get().value();
+        if (stats.getStatementCount() > max) {
+            throw new AssertionError(String.format(
+                    "SQL 실행 횟수가 허용치를 넘었습니다. expected <= %d, actual = %d (마지막 SQL: %s)",
+                    max, stats.getStatementCount(), stats.getLastSql()));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlStatementStats.class;
+    }
+
+    // 테스트 메서드의 파라미터는 beforeTestExecution 이후에 resolve 되므로 그때 시작한 통계를 그대로 전달
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        SqlStatementStats current = SqlStatementStats.current();
+        return current != null ? current : SqlStatementStats.begin();
+    }
+}